@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("org.springframework.boot") version "3.2.5"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2" // 파서 등 성능 비교 벤치마크 (src/jmh, ./gradlew jmh)
 }
 
 group = "com.jbeatda"
@@ -26,7 +27,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-webflux") // WebClient (외부 API 비동기 호출, 서버는 그대로 MVC)
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.springframework.boot:spring-boot-starter-actuator") // 캐시/외부 API 메트릭
+    implementation("com.github.ben-manes.caffeine:caffeine") // 로컬 캐시
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.5.0")
     implementation("io.jsonwebtoken:jjwt-api:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
@@ -39,7 +43,18 @@ dependencies {
     implementation("org.springframework.cloud:spring-cloud-starter-aws:2.2.6.RELEASE")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     implementation("io.github.cdimascio:dotenv-java:3.0.0") // .env 인식
-    //implementation("org.apache.httpcomponents.client5:httpclient5:5.2.1") // Apache HttpComponents
+    implementation("org.apache.httpcomponents.client5:httpclient5") // Apache HttpComponents (외부 API 커넥션 풀)
+    implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.2.0") // 외부 API 서킷 브레이커
+    implementation("io.github.resilience4j:resilience4j-bulkhead:2.2.0")       // 외부 API 동시 호출 제한
+    implementation("io.github.resilience4j:resilience4j-retry:2.2.0")          // 외부 API 재시도
+    implementation("io.github.resilience4j:resilience4j-micrometer:2.2.0")     // 위 상태 메트릭
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
 }
 
 tasks.test {
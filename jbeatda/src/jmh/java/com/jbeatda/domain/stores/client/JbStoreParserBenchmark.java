@@ -0,0 +1,124 @@
+package com.jbeatda.domain.stores.client;
+
+import com.jbeatda.DTO.external.JbStoreListApiResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지역별 목록 응답 파싱 벤치마크 (./gradlew jmh)
+ *  - domXml: 기존 방식 (본문 문자열 → byte[] → DOM, 항목마다 태그별 getElementsByTagName)
+ *  - staxXml / jacksonJson: 현재 JbStoreApiClient 파서 (스트림 1회 순회)
+ *  - 입력: src/jmh/resources/payloads 의 300건 목록 응답 (공공 API 응답 형식, 실제 응답으로 바꿔서 측정 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JbStoreParserBenchmark {
+
+    private byte[] xmlPayload;
+    private byte[] jsonPayload;
+    private JbStoreApiClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        xmlPayload = load("/payloads/area-list.xml");
+        jsonPayload = load("/payloads/area-list.json");
+        // 파싱만 사용하므로 HTTP 클라이언트 / 캐시 없이 생성
+        client = new JbStoreApiClient(null, null, null, null);
+    }
+
+    @Benchmark
+    public List<JbStoreListApiResponseDTO.StoreItem> domXml() throws Exception {
+        // 기존 코드와 같이 RestTemplate 이 만든 문자열에서 시작
+        String body = new String(xmlPayload, StandardCharsets.UTF_8);
+        return parseDom(body);
+    }
+
+    @Benchmark
+    public List<JbStoreListApiResponseDTO.StoreItem> staxXml() {
+        return client.parseStoreList(new ByteArrayInputStream(xmlPayload));
+    }
+
+    @Benchmark
+    public List<JbStoreListApiResponseDTO.StoreItem> jacksonJson() {
+        return client.parseStoreList(new ByteArrayInputStream(jsonPayload));
+    }
+
+    /**
+     * 기존 DOM 파서 (StAX 로 바꾸기 전 JbStoreApiClient 와 동일한 처리)
+     */
+    private static List<JbStoreListApiResponseDTO.StoreItem> parseDom(String xmlResponse) throws Exception {
+        List<JbStoreListApiResponseDTO.StoreItem> items = new ArrayList<>();
+
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document doc = builder.parse(new ByteArrayInputStream(xmlResponse.getBytes(StandardCharsets.UTF_8)));
+
+        NodeList itemNodes = doc.getElementsByTagName("item");
+        for (int i = 0; i < itemNodes.getLength(); i++) {
+            Element item = (Element) itemNodes.item(i);
+            items.add(JbStoreListApiResponseDTO.StoreItem.builder()
+                    .img(getTextContent(item, "IMG"))
+                    .area(getTextContent(item, "AREA"))
+                    .sno(getTextContent(item, "SNO"))
+                    .address(getTextContent(item, "ADDRESS"))
+                    .tbStarcount(parseInteger(getTextContent(item, "TB_STARCOUNT")))
+                    .fLongitude(getTextContent(item, "F_LONGITUDE"))
+                    .smenu(getTextContent(item, "SMENU"))
+                    .tbStarscore(getTextContent(item, "TB_STARSCORE"))
+                    .tel(getTextContent(item, "TEL"))
+                    .time(getTextContent(item, "TIME"))
+                    .fLatitude(getTextContent(item, "F_LATITUDE"))
+                    .name(getTextContent(item, "NAME"))
+                    .build());
+        }
+        return items;
+    }
+
+    private static String getTextContent(Element parent, String tagName) {
+        NodeList nodeList = parent.getElementsByTagName(tagName);
+        if (nodeList.getLength() > 0) {
+            String content = nodeList.item(0).getTextContent();
+            return content != null ? content.trim() : "";
+        }
+        return "";
+    }
+
+    private static Integer parseInteger(String value) {
+        if (value == null || value.trim().isEmpty() || "null".equals(value)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static byte[] load(String resource) throws IOException {
+        try (InputStream in = JbStoreParserBenchmark.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("벤치마크 입력 파일 없음: " + resource);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
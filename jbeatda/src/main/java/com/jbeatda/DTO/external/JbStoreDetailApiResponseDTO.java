@@ -90,5 +90,11 @@ public class JbStoreDetailApiResponseDTO {
         @JsonProperty("SMENU")
         private String smenu;
 
+        @JsonProperty("F_LATITUDE")
+        private String fLatitude;
+
+        @JsonProperty("F_LONGITUDE")
+        private String fLongitude;
+
     }
 }
\ No newline at end of file
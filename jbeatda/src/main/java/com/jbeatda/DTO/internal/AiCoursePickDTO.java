@@ -0,0 +1,18 @@
+package com.jbeatda.DTO.internal;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+/**
+ * ai 코스 추천 응답 (매장은 프롬프트의 매장 번호만 받음)
+ *  -> 매장 상세 정보는 서버가 StoreWithCoordinatesDTO 목록에서 채움
+ */
+public class AiCoursePickDTO {
+    private String courseName;
+    private String description;
+    private List<Integer> picks;   // 매장 번호 (1부터, 방문 순서대로)
+}
@@ -28,4 +28,12 @@ public class AiCourseRequestDTO {
     private String region;
     private Integer maxStoreCount;
 
+    // 매장 목록 확정 후 만든 프롬프트 (OpenAiClient 가 다시 만들지 않고 사용, 매장이 바뀌면 삭제)
+    private String prompt;
+
+    public void setStores(List<StoreWithCoordinatesDTO> stores) {
+        this.stores = stores;
+        this.prompt = null;
+    }
+
 }
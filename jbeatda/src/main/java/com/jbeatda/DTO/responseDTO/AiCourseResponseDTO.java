@@ -1,6 +1,7 @@
 package com.jbeatda.DTO.responseDTO;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jbeatda.exception.ApiResult;
 import lombok.Data;
 
@@ -9,10 +10,16 @@ import java.util.List;
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class AiCourseResponseDTO implements ApiResult {
+    public static final String SOURCE_AI = "ai";
+    public static final String SOURCE_RULE = "rule";
+
     private String courseName;
     private String description;
     private Integer storeCount;
     private List<RecommendedStore> stores;
+    private Integer totalDistance;      // 코스 총 이동 거리 (미터, 서버에서 계산)
+    private Integer totalTravelTime;    // 코스 총 이동 시간 (분, 서버에서 계산)
+    private String source;              // 추천 방식 (ai: OpenAI, rule: 규칙 기반)
 
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -25,7 +32,8 @@ public class AiCourseResponseDTO implements ApiResult {
         private String time;
         private String tel;
         private String sno;
-        private Integer visitOrder;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer visitOrder;   // 방문 순서 (동선 계산 후 설정, 스트리밍 store 이벤트에는 없음)
         private String lat;   // 위도
         private String lng;   // 경도
     }
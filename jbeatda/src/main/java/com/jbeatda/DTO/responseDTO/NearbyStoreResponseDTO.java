@@ -0,0 +1,62 @@
+package com.jbeatda.DTO.responseDTO;
+
+import com.jbeatda.domain.stores.index.StoreRecord;
+import com.jbeatda.domain.stores.index.StoreSpatialIndex;
+import com.jbeatda.exception.ApiResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+/**
+ * 주변 식당 조회 응답 DTO (가까운 순)
+ */
+public class NearbyStoreResponseDTO implements ApiResult {
+
+    private List<NearbyStore> stores;
+    private int totalCount;
+
+    @Getter
+    @Builder
+    public static class NearbyStore {
+        private String sno;
+        private String storeName;
+        private String storeImage;
+        private String area;
+        private String address;
+        private String smenu;
+        private String tel;
+        private String lat;
+        private String lng;
+        private long distance;      // 현재 위치에서의 거리 (미터)
+    }
+
+    public static NearbyStoreResponseDTO fromNearby(List<StoreSpatialIndex.Nearby> nearby) {
+        List<NearbyStore> stores = nearby.stream()
+                .map(item -> {
+                    StoreRecord record = item.store();
+                    return NearbyStore.builder()
+                            .sno(record.sno())
+                            .storeName(record.storeName())
+                            .storeImage(record.storeImage())
+                            .area(record.area())
+                            .address(record.address())
+                            .smenu(record.smenu())
+                            .tel(record.tel())
+                            .lat(record.lat())
+                            .lng(record.lng())
+                            .distance(Math.round(item.distanceMeters()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return new NearbyStoreResponseDTO(stores, stores.size());
+    }
+}
@@ -0,0 +1,45 @@
+package com.jbeatda.DTO.responseDTO;
+
+import com.jbeatda.domain.stores.index.StoreRecord;
+import com.jbeatda.exception.ApiResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+/**
+ * 식당명 자동완성 응답 DTO
+ */
+public class StoreAutocompleteResponseDTO implements ApiResult {
+
+    private List<Suggestion> suggestions;
+
+    @Getter
+    @Builder
+    public static class Suggestion {
+        private String sno;
+        private String storeName;
+        private String area;
+        private String smenu;
+    }
+
+    public static StoreAutocompleteResponseDTO fromRecords(List<StoreRecord> records) {
+        List<Suggestion> suggestions = records.stream()
+                .map(record -> Suggestion.builder()
+                        .sno(record.sno())
+                        .storeName(record.storeName())
+                        .area(record.area())
+                        .smenu(record.smenu())
+                        .build())
+                .collect(Collectors.toList());
+
+        return new StoreAutocompleteResponseDTO(suggestions);
+    }
+}
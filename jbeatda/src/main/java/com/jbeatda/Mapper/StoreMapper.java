@@ -3,6 +3,8 @@ package com.jbeatda.Mapper;
 import com.jbeatda.DTO.external.JbStoreListApiResponseDTO;
 import com.jbeatda.DTO.responseDTO.JbListResponseDTO;
 import com.jbeatda.DTO.responseDTO.JbSearchListResponseDTO;
+import com.jbeatda.domain.stores.entity.Store;
+import com.jbeatda.domain.stores.index.StoreRecord;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -40,6 +42,52 @@ public class StoreMapper {
                 .build();
     }
 
+    /**
+     * 로컬 미러(store 테이블) 목록 매핑 메서드 (지역별/검색 공통 사용)
+     * @param area 지역명
+     * @param stores 미러 동기화된 매장들
+     * @return JbListResponseDTO
+     */
+    public JbListResponseDTO toJbAreaListResponseFromStores(String area, List<Store> stores) {
+        return toJbAreaListResponseFromRecords(area, stores.stream()
+                .map(StoreRecord::from)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 메모리 인덱스 목록 매핑 메서드
+     * @param area 지역명
+     * @param records 인덱스 매장들
+     * @return JbListResponseDTO
+     */
+    public JbListResponseDTO toJbAreaListResponseFromRecords(String area, List<StoreRecord> records) {
+        List<JbListResponseDTO.StoreInfo> storeInfos = records.stream()
+                .map(this::toJbStoreInfo)
+                .collect(Collectors.toList());
+
+        return JbListResponseDTO.builder()
+                .areaInfo(createJbAreaInfo(area))
+                .stores(storeInfos)
+                .pagination(createJbPagination(storeInfos.size()))
+                .build();
+    }
+
+    /**
+     * 미러 매장 정보 변환 (이미지 URL/메뉴는 저장 시 이미 변환됨)
+     */
+    private JbListResponseDTO.StoreInfo toJbStoreInfo(StoreRecord record) {
+        return JbListResponseDTO.StoreInfo.builder()
+                .storeId(generateStoreId(record.sno()))
+                .storeName(record.storeName())
+                .storeImage(record.storeImage())
+                .address(record.address())
+                .smenu(parseMenu(record.smenu()))
+                .time(record.time())
+                .tel(record.tel())
+                .sno(record.sno())
+                .build();
+    }
+
     /**
      * JbStore 매장 정보 변환 메서드 (공통)
      */
@@ -0,0 +1,83 @@
+package com.jbeatda.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 외부 API 병렬 호출용 스레드 풀
+ *  -> 요청 스레드 하나에서 순차 호출하던 작업을 동시 처리 (동시 실행 수는 설정값으로 제한)
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${course.recommend.geocoding.parallelism:8}")
+    private int geocodingParallelism;
+
+    @Value("${course.recommend.geocoding.queue-capacity:1000}")
+    private int geocodingQueueCapacity;
+
+    @Value("${course.recommend.stream.parallelism:16}")
+    private int streamParallelism;
+
+    @Value("${course.recommend.stream.queue-capacity:100}")
+    private int streamQueueCapacity;
+
+    @Value("${course.recommend.cache.refresh-parallelism:2}")
+    private int refreshParallelism;
+
+    /**
+     * 주소 → 좌표 변환(카카오 API) 전용 풀
+     * 큐가 가득 차면 호출한 스레드에서 직접 실행 (요청 유실 대신 속도 조절)
+     */
+    @Bean(name = "geocodingExecutor")
+    public ThreadPoolTaskExecutor geocodingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(geocodingParallelism);
+        executor.setMaxPoolSize(geocodingParallelism);
+        executor.setQueueCapacity(geocodingQueueCapacity);
+        executor.setThreadNamePrefix("geocoding-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 코스 추천 스트리밍(SSE) 작업 풀
+     * 요청 스레드(Tomcat)는 SseEmitter 만 반환하고 바로 반납, 실제 처리는 이 풀에서 진행
+     * 큐가 가득 차면 거절 (스트림에 오류 이벤트 전송)
+     */
+    @Bean(name = "courseStreamExecutor")
+    public ThreadPoolTaskExecutor courseStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamParallelism);
+        executor.setMaxPoolSize(streamParallelism);
+        executor.setQueueCapacity(streamQueueCapacity);
+        executor.setThreadNamePrefix("course-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 코스 추천 캐시 백그라운드 갱신 풀 (오래된 캐시 결과 재계산)
+     * 큐가 가득 차면 거절 (갱신을 건너뛰고 다음 조회 때 다시 시도)
+     */
+    @Bean(name = "recommendRefreshExecutor")
+    public ThreadPoolTaskExecutor recommendRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(refreshParallelism);
+        executor.setMaxPoolSize(refreshParallelism);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("recommend-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,192 @@
+package com.jbeatda.config;
+
+import com.jbeatda.exception.ExternalApiException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 1개에 대한 호출량 제한(rate limit) + 서킷 브레이커 + 동시 호출 제한(bulkhead) + 재시도
+ *  - 서킷이 열려 있거나 동시 호출 수가 가득 차면 HTTP 호출 없이 바로 ExternalApiException
+ *  - 재시도는 여러 번 보내도 결과가 같은 조회(GET)에만 사용 (재시도도 호출량에 포함)
+ *  - 감싸는 대상은 RestTemplate / WebClient 호출 자체 (4xx 등 응답 해석은 각 클라이언트에서)
+ *  - 비동기 호출(getAsync / callAsync)도 같은 서킷 / 동시 호출 수 / 호출량 버킷을 사용
+ *  - 비동기 호출 결과를 취소하면 진행 중인 호출도 취소 (WebClient 구독 해제 → 동시 호출 자리 반환)
+ */
+@Slf4j
+public class ExternalApiGuard {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+    private final RedisRateLimiter rateLimiter;
+    private final String rateLimitName;
+    private final RedisRateLimiter.Limit rateLimit;
+    private final ScheduledExecutorService retryScheduler;
+
+    /**
+     * @param rateLimit 호출량 제한 (null 이면 제한 없음)
+     * @param rateLimitName 호출량 버킷 이름 (같은 한도를 쓰는 API 끼리 공유)
+     * @param retryScheduler 비동기 재시도 대기용 스케줄러
+     */
+    public ExternalApiGuard(String name, CircuitBreaker circuitBreaker, Bulkhead bulkhead, Retry retry,
+                            RedisRateLimiter rateLimiter, String rateLimitName, RedisRateLimiter.Limit rateLimit,
+                            ScheduledExecutorService retryScheduler) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.retry = retry;
+        this.rateLimiter = rateLimiter;
+        this.rateLimitName = rateLimitName;
+        this.rateLimit = rateLimit;
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * 조회 호출 (실패 시 지터 포함 지수 백오프로 재시도)
+     */
+    public <T> T get(Supplier<T> call) {
+        return run(Retry.decorateSupplier(retry, guarded(call)));
+    }
+
+    /**
+     * 재시도하면 안 되는 호출 (POST 등)
+     */
+    public <T> T call(Supplier<T> call) {
+        return run(guarded(call));
+    }
+
+    /**
+     * 비동기 조회 호출 (실패 시 스레드를 점유하지 않고 스케줄러로 재시도)
+     */
+    public <T> CompletableFuture<T> getAsync(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        return runAsync(result, Retry.decorateCompletionStage(retry, retryScheduler,
+                guardedAsync(cancellable(result, call))));
+    }
+
+    /**
+     * 재시도하면 안 되는 비동기 호출 (POST 등)
+     */
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        return runAsync(result, guardedAsync(cancellable(result, call)));
+    }
+
+    /**
+     * result 가 취소되면 진행 중인 호출(마지막 시도)도 취소, 취소된 뒤에는 재시도하지 않음
+     */
+    private <T> Supplier<CompletableFuture<T>> cancellable(CompletableFuture<T> result, Supplier<CompletableFuture<T>> call) {
+        AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+        result.whenComplete((value, error) -> {
+            CompletableFuture<T> attempt = inFlight.get();
+            if (result.isCancelled() && attempt != null) {
+                attempt.cancel(true);
+            }
+        });
+        return () -> {
+            if (result.isCancelled()) {
+                return CompletableFuture.failedFuture(new CancellationException());
+            }
+            CompletableFuture<T> attempt = call.get();
+            inFlight.set(attempt);
+            if (result.isCancelled()) {
+                attempt.cancel(true); // 호출 시작 직전에 취소된 경우
+            }
+            return attempt;
+        };
+    }
+
+    private <T> Supplier<T> guarded(Supplier<T> call) {
+        Supplier<T> protectedCall = CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call));
+        if (rateLimit == null) {
+            return protectedCall;
+        }
+        // 토큰을 받은 뒤에 서킷/동시 호출 확인 (대기 중에는 동시 호출 자리를 차지하지 않음)
+        return () -> {
+            rateLimiter.acquire(rateLimitName, rateLimit);
+            return protectedCall.get();
+        };
+    }
+
+    private <T> Supplier<CompletionStage<T>> guardedAsync(Supplier<CompletableFuture<T>> call) {
+        Supplier<CompletionStage<T>> protectedCall = CircuitBreaker.decorateCompletionStage(circuitBreaker,
+                Bulkhead.decorateCompletionStage(bulkhead, call::get));
+        if (rateLimit == null) {
+            return protectedCall;
+        }
+        return () -> rateLimiter.acquireAsync(rateLimitName, rateLimit)
+                .thenCompose(ignored -> protectedCall.get());
+    }
+
+    private <T> CompletableFuture<T> runAsync(CompletableFuture<T> result, Supplier<CompletionStage<T>> decorated) {
+        decorated.get().whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(translate(unwrap(error)));
+            }
+        });
+        return result;
+    }
+
+    private Throwable translate(Throwable error) {
+        if (error instanceof CallNotPermittedException) {
+            log.warn("{} 서킷 열림 - 호출 차단", name);
+            return new ExternalApiException("외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (error instanceof BulkheadFullException) {
+            log.warn("{} 동시 호출 수 초과 - 호출 거절", name);
+            return new ExternalApiException("외부 서비스 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return error;
+    }
+
+    /**
+     * source 에서 이어진 future(handle / thenApply 등)가 취소되면 source 도 취소
+     *  - CompletableFuture 는 취소가 앞 단계로 전달되지 않으므로 호출 결과를 가공해서 반환할 때 사용
+     */
+    public static <T> CompletableFuture<T> propagateCancel(CompletableFuture<?> source, CompletableFuture<T> derived) {
+        derived.whenComplete((value, error) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * CompletableFuture 가 감싼 원래 예외
+     */
+    public static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private <T> T run(Supplier<T> decorated) {
+        try {
+            return decorated.get();
+        } catch (CallNotPermittedException e) {
+            log.warn("{} 서킷 열림 - 호출 차단", name);
+            throw new ExternalApiException("외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+        } catch (BulkheadFullException e) {
+            log.warn("{} 동시 호출 수 초과 - 호출 거절", name);
+            throw new ExternalApiException("외부 서비스 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.jbeatda.config;
+
+import com.jbeatda.exception.ExternalApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 API 호출량 제한 (Redis 토큰 버킷, 모든 서버가 같은 버킷 사용)
+ *  - 초당 rate 개씩 토큰이 차고 최대 burst 개까지 쌓임, 호출 1번에 토큰 1개
+ *  - 토큰이 없으면 다음 토큰까지 기다림 (최대 maxWait), 그 안에 못 받으면 호출하지 않고 실패
+ *  - 하루 호출 수 한도(dailyLimit)를 넘으면 바로 실패
+ *  - 토큰 계산은 Lua 스크립트 1번으로 처리 (서버 간 경쟁 없음, 시간은 Redis 서버 시간 기준)
+ *  - Redis 장애 시에는 제한 없이 호출 (캐시와 같이 Redis 오류로 서비스가 멈추지 않도록)
+ *  - 비동기 호출의 Redis 확인은 전용 스레드 풀에서 실행 (공용 ForkJoinPool / 재시도 스케줄러 / WebClient 스레드를 막지 않도록)
+ */
+@Component
+@Slf4j
+public class RedisRateLimiter implements DisposableBean {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 반환값: 0 = 토큰 획득, 양수 = 다음 토큰까지 대기 시간(ms), -1 = 하루 한도 초과
+    private static final DefaultRedisScript<Long> TOKEN_BUCKET = new DefaultRedisScript<>("""
+            local rate = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local daily_limit = tonumber(ARGV[3])
+
+            if daily_limit > 0 then
+              local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+              if used >= daily_limit then
+                return -1
+              end
+            end
+
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens'))
+            local updated = tonumber(redis.call('HGET', KEYS[1], 'updated'))
+            if tokens == nil or updated == nil then
+              tokens = burst
+              updated = now
+            end
+            tokens = math.min(burst, tokens + math.max(0, now - updated) * rate / 1000)
+
+            local wait = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              if daily_limit > 0 then
+                redis.call('INCR', KEYS[2])
+                redis.call('EXPIRE', KEYS[2], 90000)
+              end
+            else
+              wait = math.ceil((1 - tokens) * 1000 / rate)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'updated', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(burst * 1000 / rate) + 1000)
+            return wait
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 비동기 토큰 확인용 (Redis 호출은 블로킹, 큐가 가득 차면 호출하지 않고 실패)
+    private final ExecutorService redisExecutor;
+
+    public RedisRateLimiter(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+                            @Value("${rate-limit.async.threads:4}") int asyncThreads,
+                            @Value("${rate-limit.async.queue-capacity:1000}") int asyncQueueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.redisExecutor = new ThreadPoolExecutor(asyncThreads, asyncThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(asyncQueueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 외부 API 1개의 호출량 제한
+     * @param ratePerSecond 초당 호출 수
+     * @param burst 한 번에 몰아서 호출할 수 있는 최대 수
+     * @param dailyLimit 하루 최대 호출 수 (0 이면 제한 없음)
+     * @param maxWait 토큰을 기다리는 최대 시간
+     */
+    public record Limit(double ratePerSecond, int burst, long dailyLimit, Duration maxWait) {
+    }
+
+    /**
+     * 토큰 1개 획득 (없으면 최대 maxWait 까지 대기)
+     * @throws ExternalApiException 대기 시간 안에 토큰을 받지 못했거나 하루 한도를 넘은 경우
+     */
+    public void acquire(String name, Limit limit) {
+        long deadline = System.nanoTime() + limit.maxWait().toNanos();
+        boolean waited = false;
+
+        while (true) {
+            long wait = nextWait(name, limit, deadline, waited);
+            if (wait == 0) {
+                return;
+            }
+
+            waited = true;
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExternalApiException("외부 서비스 요청이 중단되었습니다.");
+            }
+        }
+    }
+
+    /**
+     * 토큰 1개 획득 (비동기, 기다리는 동안 스레드를 점유하지 않음)
+     *  - Redis 확인은 전용 풀에서 실행, 완료(다음 호출 시작)도 그 스레드에서 진행
+     *  - 대기는 타이머로만 처리하고 시간이 되면 다시 전용 풀에 확인을 맡김
+     */
+    public CompletableFuture<Void> acquireAsync(String name, Limit limit) {
+        return acquireAsync(name, limit, System.nanoTime() + limit.maxWait().toNanos(), false);
+    }
+
+    private CompletableFuture<Void> acquireAsync(String name, Limit limit, long deadline, boolean waited) {
+        CompletableFuture<Long> check;
+        try {
+            check = CompletableFuture.supplyAsync(() -> nextWait(name, limit, deadline, waited), redisExecutor);
+        } catch (RejectedExecutionException e) {
+            count(name, "shed");
+            log.warn("{} 호출량 제한 - 확인 대기열 초과로 호출 생략", name);
+            return CompletableFuture.failedFuture(
+                    new ExternalApiException("외부 서비스 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        return check.thenCompose(wait -> {
+            if (wait == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            // 타이머 스레드에서는 전용 풀에 다시 맡기기만 함 (Redis 호출 없음)
+            return CompletableFuture.runAsync(() -> { },
+                            CompletableFuture.delayedExecutor(wait, TimeUnit.MILLISECONDS, Runnable::run))
+                    .thenCompose(ignored -> acquireAsync(name, limit, deadline, true));
+        });
+    }
+
+    /**
+     * 토큰 확인 1회
+     * @return 0 = 획득, 양수 = 기다린 뒤 다시 시도할 시간(ms)
+     * @throws ExternalApiException 하루 한도 초과 / 다음 토큰이 대기 시간 안에 생기지 않는 경우
+     */
+    private long nextWait(String name, Limit limit, long deadline, boolean waited) {
+        Long wait = tryAcquire(name, limit);
+        if (wait == null || wait == 0) {
+            count(name, waited ? "waited" : "acquired");
+            return 0;
+        }
+        if (wait < 0) {
+            count(name, "daily_limit");
+            log.warn("{} 하루 호출 한도 초과 - 한도: {}", name, limit.dailyLimit());
+            throw new ExternalApiException("외부 서비스의 하루 사용량을 초과했습니다. 내일 다시 시도해주세요.");
+        }
+        if (TimeUnit.MILLISECONDS.toNanos(wait) > deadline - System.nanoTime()) {
+            count(name, "shed");
+            log.warn("{} 호출량 제한 - 대기 시간 초과로 호출 생략", name);
+            throw new ExternalApiException("외부 서비스 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return wait;
+    }
+
+    /**
+     * @return 0 = 획득, 양수 = 대기 시간(ms), -1 = 하루 한도 초과, null = Redis 오류 (제한 없이 진행)
+     */
+    private Long tryAcquire(String name, Limit limit) {
+        String bucketKey = KEY_PREFIX + name;
+        String dailyKey = KEY_PREFIX + name + ":" + LocalDate.now(ZONE).format(DAY);
+        try {
+            return redisTemplate.execute(TOKEN_BUCKET, List.of(bucketKey, dailyKey),
+                    String.valueOf(limit.ratePerSecond()),
+                    String.valueOf(limit.burst()),
+                    String.valueOf(limit.dailyLimit()));
+        } catch (Exception e) {
+            log.warn("호출량 제한 확인 실패(Redis) - {} 제한 없이 호출, {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void count(String name, String result) {
+        Counter.builder("external.api.rate-limit")
+                .description("외부 API 호출량 제한 결과 (acquired / waited / shed / daily_limit)")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void destroy() {
+        redisExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,238 @@
+package com.jbeatda.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+@Slf4j
+/**
+ * 외부 API별 장애 격리 설정 (서킷 브레이커 / 동시 호출 제한 / 재시도)
+ *  -> 느리거나 죽은 외부 API 때문에 요청 스레드가 read-timeout 동안 계속 묶이는 걸 방지
+ *  -> 상태는 resilience4j.circuitbreaker.* / resilience4j.bulkhead.* / resilience4j.retry.* 메트릭으로 노출 (tag: name)
+ */
+public class ResilienceConfig implements DisposableBean {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    private final RetryRegistry retryRegistry = RetryRegistry.ofDefaults();
+    private final RedisRateLimiter rateLimiter;
+
+    // 비동기 호출 재시도 대기용 (대기만 하고 실제 호출은 WebClient 스레드에서 진행)
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "external-api-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 공통: 최근 호출 window 크기 / 판단 최소 호출 수 / 실패율(%) / 서킷이 열려 있는 시간 / 반개방 시 시험 호출 수
+    @Value("${resilience.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${resilience.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${resilience.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${resilience.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${resilience.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    // 공통: 동시 호출 자리가 빌 때까지 기다리는 최대 시간 (동기 호출만 하는 API) / 재시도 첫 대기 시간 (이후 2배씩, ±50% 지터)
+    @Value("${resilience.bulkhead-max-wait:200ms}")
+    private Duration bulkheadMaxWait;
+
+    @Value("${resilience.retry-initial-backoff:200ms}")
+    private Duration retryInitialBackoff;
+
+    // 전북향토음식점 공공 API
+    @Value("${resilience.jb-store.max-concurrent-calls:20}")
+    private int jbStoreMaxConcurrentCalls;
+
+    @Value("${resilience.jb-store.slow-call-duration:5s}")
+    private Duration jbStoreSlowCallDuration;
+
+    @Value("${resilience.jb-store.max-attempts:3}")
+    private int jbStoreMaxAttempts;
+
+    // 카카오 로컬 API
+    @Value("${resilience.kakao.max-concurrent-calls:30}")
+    private int kakaoMaxConcurrentCalls;
+
+    @Value("${resilience.kakao.slow-call-duration:2s}")
+    private Duration kakaoSlowCallDuration;
+
+    @Value("${resilience.kakao.max-attempts:2}")
+    private int kakaoMaxAttempts;
+
+    // OpenAI API (POST 라서 재시도 없음)
+    @Value("${resilience.openai.max-concurrent-calls:10}")
+    private int openAiMaxConcurrentCalls;
+
+    @Value("${resilience.openai.slow-call-duration:30s}")
+    private Duration openAiSlowCallDuration;
+
+    // OpenAI 스트리밍 (응답이 끝날 때까지 자리를 차지하므로 일반 호출과 따로 제한, 느린 호출 기준은 스트림 제한 시간보다 길게)
+    @Value("${resilience.openai-stream.max-concurrent-calls:4}")
+    private int openAiStreamMaxConcurrentCalls;
+
+    @Value("${resilience.openai-stream.slow-call-duration:90s}")
+    private Duration openAiStreamSlowCallDuration;
+
+    // 호출량 제한 (모든 서버 공유): 토큰을 기다리는 최대 시간
+    @Value("${rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${rate-limit.max-wait:1s}")
+    private Duration rateLimitMaxWait;
+
+    // 공공데이터포털(apis.data.go.kr) - 서비스 키 단위 한도
+    @Value("${rate-limit.data-go-kr.rate-per-second:10}")
+    private double dataGoKrRate;
+
+    @Value("${rate-limit.data-go-kr.burst:10}")
+    private int dataGoKrBurst;
+
+    @Value("${rate-limit.data-go-kr.daily-limit:0}")
+    private long dataGoKrDailyLimit;
+
+    // 카카오 로컬 API - 앱 키 단위 한도
+    @Value("${rate-limit.kakao.rate-per-second:30}")
+    private double kakaoRate;
+
+    @Value("${rate-limit.kakao.burst:30}")
+    private int kakaoBurst;
+
+    @Value("${rate-limit.kakao.daily-limit:100000}")
+    private long kakaoDailyLimit;
+
+    public ResilienceConfig(MeterRegistry meterRegistry, RedisRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+    }
+
+    @Bean
+    public ExternalApiGuard jbStoreApiGuard() {
+        return guard("jb-store", jbStoreMaxConcurrentCalls, jbStoreSlowCallDuration, jbStoreMaxAttempts, true,
+                "data-go-kr", rateLimit(dataGoKrRate, dataGoKrBurst, dataGoKrDailyLimit));
+    }
+
+    @Bean
+    public ExternalApiGuard kakaoApiGuard() {
+        return guard("kakao", kakaoMaxConcurrentCalls, kakaoSlowCallDuration, kakaoMaxAttempts, true,
+                "kakao", rateLimit(kakaoRate, kakaoBurst, kakaoDailyLimit));
+    }
+
+    @Bean
+    public ExternalApiGuard openAiApiGuard() {
+        return guard("openai", openAiMaxConcurrentCalls, openAiSlowCallDuration, 1, true, null, null);
+    }
+
+    @Bean
+    public ExternalApiGuard openAiStreamApiGuard() {
+        return guard("openai-stream", openAiStreamMaxConcurrentCalls, openAiStreamSlowCallDuration, 1, false,
+                null, null);
+    }
+
+    /**
+     * 외부 API 1개용 서킷 브레이커 / bulkhead / 재시도 생성
+     * - 실패로 보는 것: 타임아웃·네트워크 오류, 5xx, 429 (주소 없음 같은 4xx 는 정상 응답으로 취급)
+     * - 재시도하는 것: 타임아웃·네트워크 오류, 5xx
+     * - RestTemplate / WebClient 예외 모두 같은 기준
+     * @param asyncCalls 비동기(WebClient)로도 호출하는지 여부
+     *                   → 동시 호출 자리를 기다리지 않고 바로 거절 (bulkhead 대기는 세마포어 블로킹이라
+     *                     완료를 처리하는 스레드(Netty / 재시도 스케줄러 / 호출량 제한 풀)를 막음,
+     *                     동기/비동기 호출이 같은 자리를 나눠 쓰도록 bulkhead 는 하나로 유지)
+     */
+    private ExternalApiGuard guard(String name, int maxConcurrentCalls, Duration slowCallDuration, int maxAttempts,
+                                   boolean asyncCalls, String rateLimitName, RedisRateLimiter.Limit rateLimit) {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(ResilienceConfig::isUpstreamFailure)
+                .build();
+
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(asyncCalls ? Duration.ZERO : bulkheadMaxWait)
+                .build();
+
+        RetryConfig retryConfig = RetryConfig.custom()
+                .maxAttempts(Math.max(1, maxAttempts))
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(retryInitialBackoff, 2.0, 0.5))
+                .retryOnException(ResilienceConfig::isRetryable)
+                .build();
+
+        log.info("외부 API 장애 격리 설정 - {}: 동시 호출 {}, 느린 호출 기준 {}ms, 최대 시도 {}",
+                name, maxConcurrentCalls, slowCallDuration.toMillis(), maxAttempts);
+
+        return new ExternalApiGuard(name,
+                circuitBreakerRegistry.circuitBreaker(name, circuitBreakerConfig),
+                bulkheadRegistry.bulkhead(name, bulkheadConfig),
+                retryRegistry.retry(name, retryConfig),
+                rateLimiter, rateLimitName, rateLimit, retryScheduler);
+    }
+
+    /**
+     * 호출량 제한 설정 (비활성화했거나 초당 호출 수가 0 이하면 제한 없음)
+     */
+    private RedisRateLimiter.Limit rateLimit(double ratePerSecond, int burst, long dailyLimit) {
+        if (!rateLimitEnabled || ratePerSecond <= 0) {
+            return null;
+        }
+        return new RedisRateLimiter.Limit(ratePerSecond, Math.max(1, burst), dailyLimit, rateLimitMaxWait);
+    }
+
+    private static boolean isUpstreamFailure(Throwable e) {
+        Throwable cause = ExternalApiGuard.unwrap(e);
+        return isRetryable(cause)
+                || cause instanceof HttpClientErrorException.TooManyRequests
+                || cause instanceof WebClientResponseException.TooManyRequests;
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        Throwable cause = ExternalApiGuard.unwrap(e);
+        return cause instanceof ResourceAccessException
+                || cause instanceof HttpServerErrorException
+                || cause instanceof WebClientRequestException
+                || (cause instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError());
+    }
+
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+    }
+}
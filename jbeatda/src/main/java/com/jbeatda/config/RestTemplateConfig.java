@@ -1,22 +1,138 @@
 package com.jbeatda.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
+@Slf4j
 /**
- * API 응답 타임 아웃
- *  -> 무한대기에 빠져서 서버가 터지는 걸 방지
+ * 외부 API별 RestTemplate (커넥션 풀 + keep-alive)
+ *  -> 호출마다 TCP/TLS 연결을 새로 맺지 않고 재사용
+ *  -> API 응답 타임 아웃은 API별로 따로 설정 (무한대기에 빠져서 서버가 터지는 걸 방지)
  */
-public class RestTemplateConfig {
+public class RestTemplateConfig implements DisposableBean {
+
+    private final MeterRegistry meterRegistry;
+    private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+
+    // 공통: 유휴 연결 유지 시간 / 연결 최대 수명 / 풀에서 연결을 기다리는 최대 시간
+    @Value("${http-client.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${http-client.connection-ttl:5m}")
+    private Duration connectionTtl;
+
+    @Value("${http-client.pool-acquire-timeout:2s}")
+    private Duration poolAcquireTimeout;
+
+    // 전북향토음식점 공공 API
+    @Value("${http-client.jb-store.connect-timeout:3s}")
+    private Duration jbStoreConnectTimeout;
+
+    @Value("${http-client.jb-store.read-timeout:10s}")
+    private Duration jbStoreReadTimeout;
+
+    @Value("${http-client.jb-store.max-connections:20}")
+    private int jbStoreMaxConnections;
+
+    // 카카오 로컬 API
+    @Value("${http-client.kakao.connect-timeout:2s}")
+    private Duration kakaoConnectTimeout;
+
+    @Value("${http-client.kakao.read-timeout:3s}")
+    private Duration kakaoReadTimeout;
+
+    @Value("${http-client.kakao.max-connections:30}")
+    private int kakaoMaxConnections;
+
+    // OpenAI API (응답 생성이 오래 걸려서 읽기 타임아웃을 길게)
+    @Value("${http-client.openai.connect-timeout:5s}")
+    private Duration openAiConnectTimeout;
+
+    @Value("${http-client.openai.read-timeout:60s}")
+    private Duration openAiReadTimeout;
+
+    @Value("${http-client.openai.max-connections:10}")
+    private int openAiMaxConnections;
+
+    public RestTemplateConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public RestTemplate jbStoreRestTemplate() {
+        return pooledRestTemplate("jb-store", jbStoreConnectTimeout, jbStoreReadTimeout, jbStoreMaxConnections);
+    }
+
+    @Bean
+    public RestTemplate kakaoRestTemplate() {
+        return pooledRestTemplate("kakao", kakaoConnectTimeout, kakaoReadTimeout, kakaoMaxConnections);
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);  // 5초 (밀리초)
-        factory.setReadTimeout(10000);    // 10초 (밀리초)
+    public RestTemplate openAiRestTemplate() {
+        return pooledRestTemplate("openai", openAiConnectTimeout, openAiReadTimeout, openAiMaxConnections);
+    }
+
+    /**
+     * 커넥션 풀 기반 RestTemplate 생성
+     * - 각 클라이언트는 호스트 1개만 호출하므로 route당 최대 연결 수 = 전체 최대 연결 수
+     * - 풀 사용량은 httpcomponents.httpclient.pool.* 메트릭으로 노출 (tag: httpclient=name)
+     */
+    private RestTemplate pooledRestTemplate(String name, Duration connectTimeout, Duration readTimeout, int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(connectionTtl.toMillis()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                .build();
+        httpClients.add(httpClient);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        log.info("HTTP 커넥션 풀 생성 - {}: 최대 연결 {}, connect {}ms, read {}ms",
+                name, maxConnections, connectTimeout.toMillis(), readTimeout.toMillis());
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
 
-        return new RestTemplate(factory);
+    @Override
+    public void destroy() throws Exception {
+        for (CloseableHttpClient httpClient : httpClients) {
+            httpClient.close();
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.jbeatda.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -57,6 +58,8 @@ public class SecurityConfig {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // 이 줄 추가!
                 .authorizeHttpRequests(authz -> authz
+                        // SSE(SseEmitter) 완료 시의 async 디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/users").permitAll() // 회원가입만
                                 .requestMatchers("/users/login", "/users/refresh").permitAll()
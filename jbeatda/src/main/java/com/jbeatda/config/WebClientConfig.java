@@ -0,0 +1,112 @@
+package com.jbeatda.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+/**
+ * 외부 API별 WebClient (비동기, Reactor Netty 커넥션 풀)
+ *  -> 응답을 기다리는 동안 스레드를 점유하지 않음 (여러 지역 조회 / 좌표 변환 / AI 호출을 동시에 진행)
+ *  -> 타임아웃 / 최대 연결 수는 RestTemplate 과 같은 http-client.* 설정 사용
+ */
+public class WebClientConfig {
+
+    @Value("${http-client.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${http-client.connection-ttl:5m}")
+    private Duration connectionTtl;
+
+    @Value("${http-client.pool-acquire-timeout:2s}")
+    private Duration poolAcquireTimeout;
+
+    // 응답 본문을 메모리에 모으는 최대 크기 (지역 목록 응답이 기본값 256KB 를 넘음, 전북향토음식점 응답 본문 제한에도 사용)
+    @Value("${http-client.max-in-memory-size:4MB}")
+    private DataSize maxInMemorySize;
+
+    @Value("${http-client.jb-store.connect-timeout:3s}")
+    private Duration jbStoreConnectTimeout;
+
+    @Value("${http-client.jb-store.read-timeout:10s}")
+    private Duration jbStoreReadTimeout;
+
+    @Value("${http-client.jb-store.max-connections:20}")
+    private int jbStoreMaxConnections;
+
+    @Value("${http-client.kakao.connect-timeout:2s}")
+    private Duration kakaoConnectTimeout;
+
+    @Value("${http-client.kakao.read-timeout:3s}")
+    private Duration kakaoReadTimeout;
+
+    @Value("${http-client.kakao.max-connections:30}")
+    private int kakaoMaxConnections;
+
+    @Value("${http-client.openai.connect-timeout:5s}")
+    private Duration openAiConnectTimeout;
+
+    @Value("${http-client.openai.read-timeout:60s}")
+    private Duration openAiReadTimeout;
+
+    @Value("${http-client.openai.max-connections:10}")
+    private int openAiMaxConnections;
+
+    @Bean
+    public WebClient jbStoreWebClient() {
+        return pooledWebClient("jb-store", jbStoreConnectTimeout, jbStoreReadTimeout, jbStoreMaxConnections);
+    }
+
+    @Bean
+    public WebClient kakaoWebClient() {
+        return pooledWebClient("kakao", kakaoConnectTimeout, kakaoReadTimeout, kakaoMaxConnections);
+    }
+
+    @Bean
+    public WebClient openAiWebClient() {
+        return pooledWebClient("openai", openAiConnectTimeout, openAiReadTimeout, openAiMaxConnections);
+    }
+
+    /**
+     * 커넥션 풀 기반 WebClient 생성
+     * - URL 인코딩은 RestTemplate 과 같은 방식 (이미 만든 URL 문자열을 그대로 사용)
+     * - 풀 사용량은 reactor.netty.connection.provider.* 메트릭으로 노출 (tag: name)
+     */
+    private WebClient pooledWebClient(String name, Duration connectTimeout, Duration readTimeout, int maxConnections) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(poolAcquireTimeout)
+                .maxIdleTime(keepAlive)
+                .maxLifeTime(connectionTtl)
+                .evictInBackground(keepAlive)
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+
+        DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory();
+        uriBuilderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.URI_COMPONENT);
+
+        log.info("비동기 HTTP 커넥션 풀 생성 - {}: 최대 연결 {}, connect {}ms, read {}ms",
+                name, maxConnections, connectTimeout.toMillis(), readTimeout.toMillis());
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .uriBuilderFactory(uriBuilderFactory)
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .build();
+    }
+}
@@ -0,0 +1,309 @@
+package com.jbeatda.domain.courses.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jbeatda.DTO.requestDTO.CourseSelectionRequestDTO;
+import com.jbeatda.DTO.responseDTO.AiCourseResponseDTO;
+import com.jbeatda.domain.stores.index.StoreIndex;
+import com.jbeatda.exception.ExternalApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * AI 코스 추천 결과 캐시 (로컬 메모리 → Redis 2단계)
+ *  - 키: 정규화한 요청(지역/음식 스타일 정렬, 공백/대소문자 정리) + 매장 데이터 버전
+ *    -> 같은 조건이면 좌표 변환과 OpenAI 호출을 모두 생략
+ *    -> 매장 데이터가 바뀌면 버전이 바뀌어서 자동으로 새로 계산
+ *  - refresh-after 가 지난 결과는 그대로 반환하고 백그라운드에서 다시 계산 (stale-while-revalidate)
+ *  - 캐시에 없는 같은 요청이 동시에 들어오면 계산은 한 번만 하고 결과를 함께 사용 (single-flight)
+ */
+@Component
+@Slf4j
+public class RecommendationCache {
+
+    private static final String KEY_PREFIX = "course_recommend:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final StoreIndex storeIndex;
+    private final Executor refreshExecutor;
+    private final Cache<String, CachedCourse> localCache;
+    private final Duration ttl;
+    private final Duration refreshAfter;
+    private final boolean staleWhileRevalidate;
+    private final Duration coalesceTimeout;
+
+    // 백그라운드 갱신 중인 키 (같은 키를 동시에 여러 번 갱신하지 않도록)
+    private final Map<String, Boolean> refreshing = new ConcurrentHashMap<>();
+
+    // 계산 중인 키 → 결과 (먼저 들어온 요청이 계산, 나머지는 완료를 기다림)
+    private final Map<String, CompletableFuture<AiCourseResponseDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+
+    public RecommendationCache(RedisTemplate<String, String> redisTemplate,
+                               ObjectMapper objectMapper,
+                               StoreIndex storeIndex,
+                               MeterRegistry meterRegistry,
+                               @Qualifier("recommendRefreshExecutor") Executor refreshExecutor,
+                               @Value("${course.recommend.cache.local-max-size:1000}") long localMaxSize,
+                               @Value("${course.recommend.cache.ttl:PT6H}") Duration ttl,
+                               @Value("${course.recommend.cache.refresh-after:PT1H}") Duration refreshAfter,
+                               @Value("${course.recommend.cache.stale-while-revalidate:true}") boolean staleWhileRevalidate,
+                               @Value("${course.recommend.cache.coalesce-timeout:PT60S}") Duration coalesceTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.storeIndex = storeIndex;
+        this.refreshExecutor = refreshExecutor;
+        this.ttl = ttl;
+        this.refreshAfter = refreshAfter;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.coalesceTimeout = coalesceTimeout;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "course.recommend.local");
+
+        this.localHitCounter = counter(meterRegistry, "local_hit");
+        this.redisHitCounter = counter(meterRegistry, "redis_hit");
+        this.staleCounter = counter(meterRegistry, "stale");
+        this.missCounter = counter(meterRegistry, "miss");
+        this.coalescedCounter = Counter.builder("course.recommend.coalesced")
+                .description("계산 중인 같은 요청의 결과를 함께 사용한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("course.recommend.inflight", inFlight, Map::size)
+                .description("계산 중인 코스 추천 요청 수 (키 기준)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 → 없으면 loader 로 계산해서 저장
+     *  - 오래된 결과(refresh-after 경과)는 바로 반환하고 loader 는 백그라운드에서 실행
+     *  - 같은 키를 이미 계산 중이면 loader 를 실행하지 않고 그 결과를 기다림
+     */
+    public AiCourseResponseDTO getOrCompute(CourseSelectionRequestDTO request, Supplier<AiCourseResponseDTO> loader) {
+        String key = key(request);
+
+        AiCourseResponseDTO cached = find(key, request, loader);
+        if (cached != null) {
+            return cached;
+        }
+
+        return coalesce(key, loader);
+    }
+
+    /**
+     * 캐시 조회만 (스트리밍 등 직접 계산하는 경우)
+     * @return 없으면 null
+     */
+    public AiCourseResponseDTO find(CourseSelectionRequestDTO request, Supplier<AiCourseResponseDTO> loader) {
+        return find(key(request), request, loader);
+    }
+
+    /**
+     * 계산 결과 저장 (매장이 없거나 규칙 기반으로 대체한 결과는 저장하지 않음)
+     */
+    public void put(CourseSelectionRequestDTO request, AiCourseResponseDTO course) {
+        put(key(request), course);
+    }
+
+    private AiCourseResponseDTO find(String key, CourseSelectionRequestDTO request, Supplier<AiCourseResponseDTO> loader) {
+        // 1. 로컬 캐시
+        CachedCourse cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHitCounter.increment();
+        } else {
+            // 2. Redis (장애 시 캐시 미스로 처리)
+            cached = loadFromRedis(key);
+            if (cached != null) {
+                redisHitCounter.increment();
+                localCache.put(key, cached);
+            }
+        }
+
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+
+        // 3. 오래된 결과면 백그라운드 갱신
+        if (staleWhileRevalidate && isStale(cached)) {
+            staleCounter.increment();
+            refreshAsync(key, request, loader);
+        }
+        return cached.course();
+    }
+
+    /**
+     * 키별로 계산을 하나만 실행
+     *  - 실패하면 기다리던 요청도 같은 예외로 실패 (다음 요청은 새로 계산)
+     */
+    private AiCourseResponseDTO coalesce(String key, Supplier<AiCourseResponseDTO> loader) {
+        CompletableFuture<AiCourseResponseDTO> created = new CompletableFuture<>();
+        CompletableFuture<AiCourseResponseDTO> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            coalescedCounter.increment();
+            return await(running);
+        }
+
+        try {
+            AiCourseResponseDTO course = loader.get();
+            put(key, course);
+            created.complete(course);
+            return course;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private AiCourseResponseDTO await(CompletableFuture<AiCourseResponseDTO> running) {
+        try {
+            return running.get(coalesceTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ExternalApiException("코스 추천 중 오류가 발생했습니다.");
+        } catch (TimeoutException e) {
+            log.warn("동시 요청 코스 추천 대기 시간 초과");
+            throw new ExternalApiException("코스 추천 중 오류가 발생했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("코스 추천 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void put(String key, AiCourseResponseDTO course) {
+        if (course == null || course.getStores() == null || course.getStores().isEmpty()
+                || AiCourseResponseDTO.SOURCE_RULE.equals(course.getSource())) {
+            return;
+        }
+
+        CachedCourse cached = new CachedCourse(System.currentTimeMillis(), course);
+        localCache.put(key, cached);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(cached), ttl);
+        } catch (Exception e) {
+            log.warn("코스 추천 캐시(Redis) 저장 실패 - {}", e.getMessage());
+        }
+    }
+
+    private void refreshAsync(String key, CourseSelectionRequestDTO request, Supplier<AiCourseResponseDTO> loader) {
+        if (refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    coalesce(key, loader);
+                    log.info("코스 추천 캐시 백그라운드 갱신 완료 - regions: {}", request.getRegions());
+                } catch (Exception e) {
+                    log.warn("코스 추천 캐시 백그라운드 갱신 실패 - {}", e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private boolean isStale(CachedCourse cached) {
+        return System.currentTimeMillis() - cached.createdAt() > refreshAfter.toMillis();
+    }
+
+    private CachedCourse loadFromRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return value != null ? objectMapper.readValue(value, CachedCourse.class) : null;
+        } catch (Exception e) {
+            log.warn("코스 추천 캐시(Redis) 조회 실패 - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 키 = SHA-256(정규화한 요청 + 매장 데이터 버전)
+     */
+    String key(CourseSelectionRequestDTO request) {
+        String canonical = String.join("\u001F",
+                "v=" + storeIndex.version(),
+                "r=" + canonicalList(request.getRegions()),
+                "s=" + canonicalList(request.getFoodStyles()),
+                "t=" + canonical(request.getTransportation()),
+                "c=" + canonical(request.getCondition()),
+                "d=" + canonical(request.getDuration()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String canonicalList(List<String> values) {
+        if (values == null) {
+            return "";
+        }
+        return values.stream()
+                .map(RecommendationCache::canonical)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static String canonical(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("course.recommend.cache.requests")
+                .description("AI 코스 추천 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 값 (Redis 에는 JSON 으로 저장)
+     * @param createdAt 계산 시각 (epoch millis)
+     */
+    public record CachedCourse(long createdAt, AiCourseResponseDTO course) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.jbeatda.domain.courses.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 스트리밍으로 받는 AI 응답({"courseName":..,"description":..,"picks":[..]})을 조각 단위로 파싱
+ *  - Jackson non-blocking 파서에 받은 조각을 그대로 넣고, 값이 완성되는 즉시 listener 호출
+ *  - 응답 앞에 JSON 이 아닌 문자가 오면 첫 '{' 전까지 무시
+ */
+@Slf4j
+public class CoursePickStreamParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public interface Listener {
+        void onCourseName(String courseName);
+
+        void onDescription(String description);
+
+        /**
+         * @param number 프롬프트 매장목록의 매장 번호 (1부터)
+         */
+        void onPick(int number);
+    }
+
+    private final Listener listener;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean started;
+    private boolean failed;
+    private int depth;
+    private String field;
+
+    public CoursePickStreamParser(Listener listener) {
+        this.listener = listener;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 응답 조각 추가 (파싱 오류가 나면 이후 조각은 무시, 최종 결과는 전체 응답으로 다시 파싱)
+     */
+    public void feed(String chunk) {
+        if (failed || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        if (!started) {
+            int start = chunk.indexOf('{');
+            if (start < 0) {
+                return;
+            }
+            chunk = chunk.substring(start);
+            started = true;
+        }
+
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                handle(token);
+            }
+        } catch (IOException e) {
+            failed = true;
+            log.warn("AI 스트리밍 응답 부분 파싱 실패 - {}", e.getMessage());
+        }
+    }
+
+    private void handle(JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT, START_ARRAY -> depth++;
+            case END_OBJECT, END_ARRAY -> depth--;
+            case FIELD_NAME -> {
+                if (depth == 1) {
+                    field = parser.currentName();
+                }
+            }
+            case VALUE_STRING -> {
+                if (depth == 1 && "courseName".equals(field)) {
+                    listener.onCourseName(parser.getText());
+                } else if (depth == 1 && "description".equals(field)) {
+                    listener.onDescription(parser.getText());
+                } else if (depth == 2 && "picks".equals(field)) {
+                    try {
+                        listener.onPick(Integer.parseInt(parser.getText().trim()));
+                    } catch (NumberFormatException e) {
+                        log.warn("AI 응답의 잘못된 매장 번호 무시 - {}", parser.getText());
+                    }
+                }
+            }
+            case VALUE_NUMBER_INT -> {
+                if (depth == 2 && "picks".equals(field)) {
+                    listener.onPick(parser.getIntValue());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+}
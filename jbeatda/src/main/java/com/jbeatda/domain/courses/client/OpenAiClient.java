@@ -4,8 +4,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jbeatda.DTO.internal.AiCourseRequestDTO;
 import com.jbeatda.DTO.internal.StoreWithCoordinatesDTO;
+import com.jbeatda.config.ExternalApiGuard;
 import com.jbeatda.exception.ExternalApiException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -15,12 +19,24 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
-
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
@@ -28,7 +44,11 @@ import java.util.stream.Collectors;
 public class OpenAiClient {
 
     private final RestTemplate restTemplate;
+    private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ExternalApiGuard apiGuard;
+    private final ExternalApiGuard streamApiGuard;
 
     @Value("${openai.api.key}")
     private String apiKey;
@@ -39,9 +59,93 @@ public class OpenAiClient {
     @Value("${openai.api.model:gpt-3.5-turbo}")
     private String model;
 
-    public OpenAiClient(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    // 응답은 번호/코스명/설명만 받으므로 작게 제한
+    @Value("${openai.api.max-tokens:300}")
+    private int maxTokens;
+
+    // JSON 형식 강제 (response_format 을 지원하지 않는 모델이면 false)
+    @Value("${openai.api.json-mode:true}")
+    private boolean jsonMode;
+
+    // 스트리밍 응답 전체 제한 시간 (넘으면 연결을 끊고 실패)
+    @Value("${openai.api.stream-timeout:60s}")
+    private Duration streamTimeout;
+
+    // 프롬프트 마지막 요청사항 + JSON 형식
+    private static final String PROMPT_FOOTER =
+            "\n조건에 맞는 매장 3개를 골라 번호로만 답변. 매장 정보는 쓰지 말 것\n"
+                    + "JSON응답:{\"courseName\":\"코스명\",\"description\":\"설명(2문장 이내)\",\"picks\":[3,1,7]}";
+
+    public OpenAiClient(@Qualifier("openAiRestTemplate") RestTemplate restTemplate, @Qualifier("openAiWebClient") WebClient webClient,
+                        ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                        @Qualifier("openAiApiGuard") ExternalApiGuard apiGuard,
+                        @Qualifier("openAiStreamApiGuard") ExternalApiGuard streamApiGuard) {
         this.restTemplate = restTemplate;
+        this.webClient = webClient;
         this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.apiGuard = apiGuard;
+        this.streamApiGuard = streamApiGuard;
+    }
+
+    /**
+     * 코스 추천 프롬프트의 예상 토큰 수 (실제 호출 없이 추정)
+     *  - 프롬프트를 이미 만들었으면 그 프롬프트 기준
+     *  - 아니면 전체 프롬프트를 만들지 않고 고정 문구 + 매장 한 줄씩의 길이 합으로 계산
+     */
+    public int estimatePromptTokens(AiCourseRequestDTO requestDTO) {
+        if (requestDTO.getPrompt() != null) {
+            return estimateTokens(requestDTO.getPrompt());
+        }
+
+        TokenEstimate estimate = new TokenEstimate();
+        estimate.add(promptHeader(requestDTO));
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < requestDTO.getStores().size(); i++) {
+            line.setLength(0);
+            appendStoreLine(line, i + 1, requestDTO.getStores().get(i));
+            estimate.add(line);
+        }
+        estimate.add(PROMPT_FOOTER);
+        return estimate.tokens();
+    }
+
+    /**
+     * 코스 추천 프롬프트 생성 후 요청 데이터에 보관 (실제 호출에서 다시 만들지 않음)
+     */
+    public String preparePrompt(AiCourseRequestDTO requestDTO) {
+        String prompt = buildCourseRecommendationPrompt(requestDTO);
+        requestDTO.setPrompt(prompt);
+        return prompt;
+    }
+
+    /**
+     * 토큰 수 추정: 한글 음절은 1자당 1토큰, 그 외 문자는 4자당 1토큰
+     */
+    static int estimateTokens(String text) {
+        TokenEstimate estimate = new TokenEstimate();
+        estimate.add(text);
+        return estimate.tokens();
+    }
+
+    private static final class TokenEstimate {
+        private int hangul;
+        private int others;
+
+        void add(CharSequence text) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c >= 0xAC00 && c <= 0xD7A3) {
+                    hangul++;
+                } else {
+                    others++;
+                }
+            }
+        }
+
+        int tokens() {
+            return hangul + (others + 3) / 4;
+        }
     }
 
     /**
@@ -50,7 +154,7 @@ public class OpenAiClient {
     public String recommendCourse(AiCourseRequestDTO requestDTO) {
         try {
             // 1. 프롬프트 생성
-            String prompt = buildCourseRecommendationPrompt(requestDTO);
+            String prompt = promptOf(requestDTO);
             log.info("AI 코스 추천 요청 시작");
 
             // 2. OpenAI API 요청 바디 생성
@@ -61,10 +165,10 @@ public class OpenAiClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(apiKey);
 
-            // 4. API 호출
+            // 4. API 호출 (서킷 브레이커 / 동시 호출 제한, POST 라서 재시도 없음)
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.exchange(
-                    apiUrl, HttpMethod.POST, entity, String.class);
+            ResponseEntity<String> response = apiGuard.call(() -> restTemplate.exchange(
+                    apiUrl, HttpMethod.POST, entity, String.class));
 
             // 5. 응답 파싱
             String aiResponse = parseOpenAiResponse(response.getBody());
@@ -72,81 +176,222 @@ public class OpenAiClient {
 
             return aiResponse;
 
-        } catch (ResourceAccessException e) {
-            log.error("OpenAI API 타임아웃 또는 네트워크 오류", e);
-            throw new ExternalApiException("AI 서비스 연결에 실패했습니다.");
-
-        } catch (HttpClientErrorException e) {
-            log.error("OpenAI API 클라이언트 오류 - status: {}", e.getStatusCode(), e);
-            if (e.getStatusCode().value() == 401) {
-                throw new ExternalApiException("AI 서비스 인증에 실패했습니다.");
-            } else if (e.getStatusCode().value() == 429) {
-                throw new ExternalApiException("AI 서비스 사용량 한도를 초과했습니다.");
+        } catch (Exception e) {
+            throw toExternalApiException(e);
+        }
+    }
+
+    /**
+     * AI에게 코스 추천 요청 (비동기, 응답을 기다리는 동안 스레드 점유 없음)
+     * @return AI 응답 내용, 실패 시 ExternalApiException 으로 완료 (취소하면 진행 중인 HTTP 요청도 취소)
+     */
+    public CompletableFuture<String> recommendCourseAsync(AiCourseRequestDTO requestDTO) {
+        Map<String, Object> requestBody = buildRequestBody(promptOf(requestDTO));
+        log.info("AI 코스 추천 비동기 요청 시작");
+
+        CompletableFuture<String> call = apiGuard.callAsync(() -> webClient.post()
+                .uri(apiUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(headers -> headers.setBearerAuth(apiKey))
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(String.class)
+                .toFuture());
+
+        // 반환한 future 를 취소하면(시간 초과 등) HTTP 요청도 취소해서 연결 / 동시 호출 자리 반환
+        return ExternalApiGuard.propagateCancel(call, call.handle((response, error) -> {
+            if (error != null) {
+                throw toExternalApiException(ExternalApiGuard.unwrap(error));
             }
-            throw new ExternalApiException("AI 서비스 요청 중 오류가 발생했습니다.");
+            String aiResponse = parseOpenAiResponse(response);
+            log.info("AI 코스 추천 완료");
+            return aiResponse;
+        }));
+    }
 
-        } catch (HttpServerErrorException e) {
-            log.error("OpenAI API 서버 오류 - status: {}", e.getStatusCode(), e);
-            throw new ExternalApiException("AI 서비스에 일시적인 문제가 발생했습니다.");
+    /**
+     * AI에게 코스 추천 요청 (stream: true)
+     *  - 응답 조각(delta.content)이 올 때마다 onContent 호출
+     * @return 전체 응답 내용
+     */
+    public String streamCourseRecommendation(AiCourseRequestDTO requestDTO, Consumer<String> onContent) {
+        try {
+            // 1. 프롬프트 / 요청 바디 생성 (마지막 조각에 토큰 사용량 포함)
+            String prompt = promptOf(requestDTO);
+            Map<String, Object> requestBody = buildRequestBody(prompt);
+            requestBody.put("stream", true);
+            requestBody.put("stream_options", Map.of("include_usage", true));
+            log.info("AI 코스 추천 스트리밍 요청 시작");
+
+            // 2. API 호출 - 응답 본문을 줄 단위(SSE)로 읽으면서 전달
+            //    스트림이 끝날 때까지 자리를 차지하므로 스트리밍 전용 동시 호출 제한 / 서킷 사용 (일반 추천 호출과 분리)
+            long deadline = System.nanoTime() + streamTimeout.toNanos();
+            String aiResponse = streamApiGuard.call(() -> restTemplate.execute(apiUrl, HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                        request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                        request.getHeaders().setBearerAuth(apiKey);
+                        objectMapper.writeValue(request.getBody(), requestBody);
+                    },
+                    response -> readStream(response.getBody(), onContent, deadline)));
+
+            log.info("AI 코스 추천 스트리밍 완료");
+            return aiResponse;
 
-        } catch (Exception e) {
-            log.error("예상치 못한 오류 발생", e);
-            throw new ExternalApiException("AI 코스 추천 중 오류가 발생했습니다.");
+        } catch (RestClientException e) {
+            // onContent 에서 던진 예외(클라이언트 연결 종료 등)는 그대로 전달
+            throw toExternalApiException(e);
+        }
+    }
+
+    /**
+     * OpenAI 스트리밍 응답 읽기 ("data: {...}" 줄 반복, "data: [DONE]" 으로 종료)
+     * @param deadline 전체 제한 시각 (System.nanoTime 기준, 넘으면 읽기를 멈추고 실패 → 연결 종료)
+     */
+    private String readStream(InputStream body, Consumer<String> onContent, long deadline) throws IOException {
+        StringBuilder content = new StringBuilder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("OpenAI 스트리밍 제한 시간 초과 - {}ms", streamTimeout.toMillis());
+                throw new ExternalApiException("AI 응답 시간이 초과되었습니다.");
+            }
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+            String data = line.substring(5).trim();
+            if ("[DONE]".equals(data)) {
+                break;
+            }
+
+            JsonNode chunk = objectMapper.readTree(data);
+            JsonNode usage = chunk.get("usage");
+            if (usage != null && !usage.isNull()) {
+                recordUsage(usage);
+            }
+
+            JsonNode delta = chunk.path("choices").path(0).path("delta").path("content");
+            if (delta.isTextual() && !delta.asText().isEmpty()) {
+                content.append(delta.asText());
+                onContent.accept(delta.asText());
+            }
         }
+        return content.toString();
+    }
+
+    /**
+     * 호출 중 예외 → ExternalApiException (상태 코드별 메시지)
+     */
+    private ExternalApiException toExternalApiException(Throwable e) {
+        if (e instanceof ExternalApiException externalApiException) {
+            return externalApiException;
+
+        } else if (e instanceof ResourceAccessException || e instanceof WebClientRequestException) {
+            log.error("OpenAI API 타임아웃 또는 네트워크 오류", e);
+            return new ExternalApiException("AI 서비스 연결에 실패했습니다.");
+
+        } else if (e instanceof HttpClientErrorException clientError) {
+            log.error("OpenAI API 클라이언트 오류 - status: {}", clientError.getStatusCode(), e);
+            if (clientError.getStatusCode().value() == 401) {
+                return new ExternalApiException("AI 서비스 인증에 실패했습니다.");
+            } else if (clientError.getStatusCode().value() == 429) {
+                return new ExternalApiException("AI 서비스 사용량 한도를 초과했습니다.");
+            }
+            return new ExternalApiException("AI 서비스 요청 중 오류가 발생했습니다.");
+
+        } else if (e instanceof HttpServerErrorException serverError) {
+            log.error("OpenAI API 서버 오류 - status: {}", serverError.getStatusCode(), e);
+            return new ExternalApiException("AI 서비스에 일시적인 문제가 발생했습니다.");
+
+        } else if (e instanceof WebClientResponseException response) {
+            log.error("OpenAI API 오류 - status: {}", response.getStatusCode(), e);
+            if (response.getStatusCode().value() == 401) {
+                return new ExternalApiException("AI 서비스 인증에 실패했습니다.");
+            } else if (response.getStatusCode().value() == 429) {
+                return new ExternalApiException("AI 서비스 사용량 한도를 초과했습니다.");
+            } else if (response.getStatusCode().is5xxServerError()) {
+                return new ExternalApiException("AI 서비스에 일시적인 문제가 발생했습니다.");
+            }
+            return new ExternalApiException("AI 서비스 요청 중 오류가 발생했습니다.");
+        }
+
+        log.error("예상치 못한 오류 발생", e);
+        return new ExternalApiException("AI 코스 추천 중 오류가 발생했습니다.");
+    }
+
+    /**
+     * 보관된 프롬프트 (없으면 새로 생성)
+     */
+    private String promptOf(AiCourseRequestDTO requestDTO) {
+        return requestDTO.getPrompt() != null ? requestDTO.getPrompt() : buildCourseRecommendationPrompt(requestDTO);
     }
 
     /**
      * 코스 추천 프롬프트 생성
+     *  - 매장은 번호로만 주고받음 (응답에 매장 정보를 다시 쓰지 않게 해서 출력 토큰 절약)
+     *  - 좌표는 소수점 3자리(약 100m)까지만 전달
      */
     private String buildCourseRecommendationPrompt(AiCourseRequestDTO requestDTO) {
-        StringBuilder prompt = new StringBuilder();
+        StringBuilder prompt = new StringBuilder(promptHeader(requestDTO));
 
-        prompt.append("전북 맛집 코스 추천\n");
-        prompt.append("조건: ").append(String.join(",", requestDTO.getFoodStyles()));
-        prompt.append(" | ").append(requestDTO.getTransportation());
-        prompt.append(" | ").append(requestDTO.getDuration()).append("\n\n");
-
-        // 매장 정보 (간단하게)
-        prompt.append("매장목록:\n");
+        // 매장 정보 (번호|매장명|지역|메뉴|위도,경도)
         for (int i = 0; i < requestDTO.getStores().size(); i++) {
-            StoreWithCoordinatesDTO store = requestDTO.getStores().get(i);
-            prompt.append(String.format("%d.%s|%s|%s|%s|%s|%s|%s|%s|%s,%s\n",
-                    i + 1,
-                    store.getStoreName(),
-                    store.getSno(),
-                    store.getStoreImage(),
-                    store.getArea(),
-                    store.getAddress(),
-                    store.getMenu(),
-                    store.getTime(),
-                    store.getTel(),
-                    store.getLatitude(),
-                    store.getLongitude()));
+            appendStoreLine(prompt, i + 1, requestDTO.getStores().get(i));
         }
 
-        // 요청사항 (간단하게)
-        prompt.append("\n**중요:** 위 매장 정보를 정확히 복사 사용. 수정금지. 3-5개 선택, 효율적 동선 고려\n\n");
-
-        // JSON 형식 (간단하게)
-        prompt.append("JSON응답:\n");
-        prompt.append("{\"courseName\":\"코스명\",\"description\":\"설명\",\"storeCount\":3,\"stores\":[{");
-        prompt.append("\"storeName\":\"정확한매장명\",\"sno\":\"정확한SNO\",\"storeImage\":\"정확한이미지URL\",");
-        prompt.append("\"area\":\"정확한지역\",\"address\":\"정확한주소\",\"smenu\":\"정확한메뉴\",");
-        prompt.append("\"time\":\"정확한시간\",\"tel\":\"정확한전화\",\"visitOrder\":1,");
-        prompt.append("\"lat\":\"정확한위도\",\"lng\":\"정확한경도\"}]}\n");
-        prompt.append("위 매장정보 그대로 복사, visitOrder만 순서 변경");
+        // 요청사항 + JSON 형식
+        prompt.append(PROMPT_FOOTER);
 
         return prompt.toString();
     }
 
+    /**
+     * 프롬프트 앞부분 (조건 + 매장목록 제목)
+     */
+    private String promptHeader(AiCourseRequestDTO requestDTO) {
+        StringBuilder header = new StringBuilder();
+        header.append("전북 맛집 코스 추천\n");
+        header.append("조건: ").append(String.join(",", requestDTO.getFoodStyles()));
+        header.append(" | ").append(requestDTO.getTransportation());
+        header.append(" | ").append(requestDTO.getDuration());
+        if (requestDTO.getCondition() != null && !requestDTO.getCondition().isBlank()) {
+            header.append(" | ").append(requestDTO.getCondition());
+        }
+        header.append("\n\n");
+        header.append("매장목록:\n");
+        return header.toString();
+    }
+
+    private void appendStoreLine(StringBuilder prompt, int number, StoreWithCoordinatesDTO store) {
+        prompt.append(number).append('|')
+                .append(store.getStoreName()).append('|')
+                .append(store.getArea()).append('|')
+                .append(store.getMenu()).append('|')
+                .append(shortCoordinate(store.getLatitude())).append(',')
+                .append(shortCoordinate(store.getLongitude())).append('\n');
+    }
+
+    private String shortCoordinate(String value) {
+        try {
+            return String.format("%.3f", Double.parseDouble(value));
+        } catch (NullPointerException | NumberFormatException e) {
+            return "-";
+        }
+    }
+
     /**
      * OpenAI API 요청 바디 생성
      */
     private Map<String, Object> buildRequestBody(String prompt) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("model", model);
-        requestBody.put("max_tokens", 2000);
+        requestBody.put("max_tokens", maxTokens);
         requestBody.put("temperature", 0.7);
+        if (jsonMode) {
+            requestBody.put("response_format", Map.of("type", "json_object"));
+        }
 
         // messages 배열 생성
         Map<String, String> message = new HashMap<>();
@@ -158,6 +403,26 @@ public class OpenAiClient {
         return requestBody;
     }
 
+    /**
+     * 실제 사용 토큰 수 기록 (openai.usage.tokens, type=prompt|completion)
+     */
+    private void recordUsage(JsonNode usage) {
+        if (usage == null) {
+            return;
+        }
+        recordTokens("prompt", usage.path("prompt_tokens").asInt(0));
+        recordTokens("completion", usage.path("completion_tokens").asInt(0));
+    }
+
+    private void recordTokens(String type, int tokens) {
+        if (tokens > 0) {
+            DistributionSummary.builder("openai.usage.tokens")
+                    .tag("type", type)
+                    .register(meterRegistry)
+                    .record(tokens);
+        }
+    }
+
     /**
      * OpenAI API 응답 파싱
      */
@@ -170,6 +435,8 @@ public class OpenAiClient {
                 throw new ExternalApiException("AI 응답을 파싱할 수 없습니다.");
             }
 
+            recordUsage(root.get("usage"));
+
             JsonNode firstChoice = choices.get(0);
             JsonNode message = firstChoice.get("message");
             String content = message.get("content").asText();
@@ -20,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -71,6 +72,23 @@ public class CourseController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "AI 코스 추천 (스트리밍)", description = "AI 코스 추천 결과를 Server-Sent Events 로 받습니다. "
+            + "이벤트 순서: status → courseName → description → store(매장마다) → done(최종 코스, /courses/recommend 응답과 같은 형식), 실패 시 error")
+    @PostMapping(value = "/recommend/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter recommendCourseStream(
+            @AuthenticationPrincipal UserDetails userDetails, // Spring Security에서 현재 인증된 사용자 정보 주입
+            @RequestBody CourseSelectionRequestDTO courseSelectionRequestDTO
+
+    ) {
+        Integer userId = userDetails != null ?
+                authUtils.getUserIdFromUserDetails(userDetails) :
+                authUtils.getCurrentUserId();
+
+        log.info("userId: {}", userId);
+
+        return courseService.recommendCourseStream(courseSelectionRequestDTO);
+    }
+
     @Operation(summary = "코스 생성 및 저장", description = " 추천받은 코스를 저장합니다.")
     @PostMapping
     @ApiResponses(value = {
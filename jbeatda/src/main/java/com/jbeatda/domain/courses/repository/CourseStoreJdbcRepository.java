@@ -0,0 +1,41 @@
+package com.jbeatda.domain.courses.repository;
+
+import com.jbeatda.domain.courses.entity.CourseStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * course_store 테이블 일괄 저장 (JDBC batch)
+ *  - CourseStore 는 IDENTITY 키라서 JPA saveAll 은 행마다 INSERT 를 따로 보냄
+ *  - rewriteBatchedStatements=true 면 코스 매장 전체가 INSERT 1번으로 전송됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class CourseStoreJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO course_store (course_id, store_id, visit_order, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 코스 매장 일괄 저장 (course / store 는 이미 저장된 상태여야 함)
+     */
+    public void insertAll(List<CourseStore> courseStores) {
+        if (courseStores.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, courseStores, courseStores.size(), (ps, courseStore) -> {
+            ps.setInt(1, courseStore.getCourse().getId());
+            ps.setInt(2, courseStore.getStore().getId());
+            ps.setInt(3, courseStore.getVisitOrder());
+            ps.setTimestamp(4, createdAt);
+        });
+    }
+}
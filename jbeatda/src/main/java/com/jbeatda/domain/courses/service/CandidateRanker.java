@@ -0,0 +1,187 @@
+package com.jbeatda.domain.courses.service;
+
+import com.jbeatda.DTO.internal.StoreWithCoordinatesDTO;
+import com.jbeatda.DTO.requestDTO.CourseSelectionRequestDTO;
+import com.jbeatda.domain.stores.index.StoreSpatialIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * AI 코스 추천 전 후보 매장 사전 순위
+ *  - 음식 스타일 / 조건 키워드가 메뉴·매장명에 있는지, 주변에 다른 후보가 많은지(동선이 짧은지)로 점수 계산
+ *  - 상위 N개만 프롬프트에 넣어서 토큰 수와 응답 시간을 줄임
+ */
+@Component
+@Slf4j
+public class CandidateRanker {
+
+    private static final double STYLE_WEIGHT = 3.0;
+    private static final double CONDITION_WEIGHT = 1.0;
+    private static final double COMPACTNESS_WEIGHT = 2.0;
+
+    // 음식 스타일 → 메뉴 키워드 (목록에 없는 스타일은 스타일 문자열 그대로 매칭, "회"는 "회관"과 겹쳐서 제외)
+    private static final Map<String, List<String>> STYLE_KEYWORDS = Map.of(
+            "한식", List.of("한식", "비빔밥", "한정식", "정식", "백반", "국밥", "찌개", "전골", "불고기"),
+            "고기", List.of("고기", "갈비", "삼겹", "한우", "불고기", "돼지", "오리", "닭", "구이"),
+            "해산물", List.of("해산물", "해물", "생선회", "물회", "장어", "게장", "백합", "조개", "생선", "아구", "매운탕"),
+            "면", List.of("면", "국수", "냉면", "칼국수", "짬뽕", "막국수"),
+            "국물", List.of("국물", "탕", "국밥", "찌개", "전골", "해장국"),
+            "분식", List.of("분식", "떡볶이", "순대", "김밥", "만두"),
+            "중식", List.of("중식", "짜장", "짬뽕", "탕수육"),
+            "디저트", List.of("디저트", "카페", "빵", "떡", "커피"));
+
+    // 조건(동행/상황) → 매장 특성 키워드
+    private static final Map<String, List<String>> CONDITION_KEYWORDS = Map.of(
+            "가족", List.of("한정식", "정식", "회관", "가든"),
+            "단체", List.of("한정식", "회관", "가든", "갈비"),
+            "혼밥", List.of("국밥", "백반", "국수", "비빔밥"),
+            "데이트", List.of("한정식", "카페", "정식"),
+            "회식", List.of("고기", "갈비", "삼겹", "막걸리"),
+            "해장", List.of("국밥", "해장국", "콩나물", "탕"));
+
+    @Value("${course.recommend.candidates.max:30}")
+    private int maxCandidates;
+
+    /**
+     * 점수 상위 maxCandidates 개 (후보가 그보다 적으면 그대로 반환)
+     *  - 같은 점수면 원래 순서 유지
+     */
+    public List<StoreWithCoordinatesDTO> rank(CourseSelectionRequestDTO requestDTO, List<StoreWithCoordinatesDTO> stores) {
+        if (stores.size() <= maxCandidates) {
+            return stores;
+        }
+
+        double[] scores = scores(requestDTO, stores);
+        List<Scored> scored = new ArrayList<>(stores.size());
+        for (int i = 0; i < stores.size(); i++) {
+            scored.add(new Scored(i, scores[i]));
+        }
+
+        List<StoreWithCoordinatesDTO> ranked = scored.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed().thenComparingInt(Scored::index))
+                .limit(maxCandidates)
+                .map(item -> stores.get(item.index()))
+                .collect(Collectors.toList());
+
+        log.info("후보 매장 사전 순위 적용 - 전체: {}, 선택: {}", stores.size(), ranked.size());
+        return ranked;
+    }
+
+    /**
+     * 매장별 점수 (입력 순서, 스타일 3 + 조건 1 + 밀집도 2 = 최대 6)
+     */
+    double[] scores(CourseSelectionRequestDTO requestDTO, List<StoreWithCoordinatesDTO> stores) {
+        List<List<String>> styleKeywords = keywordsFor(requestDTO.getFoodStyles(), STYLE_KEYWORDS);
+        List<List<String>> conditionKeywords = keywordsFor(splitCondition(requestDTO.getCondition()), CONDITION_KEYWORDS);
+        double[] compactness = compactness(stores, RouteOptimizer.TravelMode.from(requestDTO.getTransportation()));
+
+        double[] scores = new double[stores.size()];
+        for (int i = 0; i < stores.size(); i++) {
+            StoreWithCoordinatesDTO store = stores.get(i);
+            String text = (store.getStoreName() + " " + store.getMenu()).toLowerCase();
+
+            scores[i] = STYLE_WEIGHT * matchRatio(text, styleKeywords)
+                    + CONDITION_WEIGHT * matchRatio(text, conditionKeywords)
+                    + COMPACTNESS_WEIGHT * compactness[i];
+        }
+        return scores;
+    }
+
+    /**
+     * 요청 값별 키워드 목록 (사전에 없으면 값 자체를 키워드로 사용)
+     */
+    private List<List<String>> keywordsFor(List<String> values, Map<String, List<String>> dictionary) {
+        if (values == null) {
+            return List.of();
+        }
+        List<List<String>> keywords = new ArrayList<>();
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            String trimmed = value.trim().toLowerCase();
+            List<String> matched = dictionary.entrySet().stream()
+                    .filter(entry -> trimmed.contains(entry.getKey()))
+                    .flatMap(entry -> entry.getValue().stream())
+                    .collect(Collectors.toList());
+            keywords.add(matched.isEmpty() ? List.of(trimmed) : matched);
+        }
+        return keywords;
+    }
+
+    private List<String> splitCondition(String condition) {
+        if (condition == null || condition.isBlank()) {
+            return List.of();
+        }
+        return List.of(condition.split("[,\\s]+"));
+    }
+
+    /**
+     * 요청 값 중 매장과 맞는 비율 (0 ~ 1)
+     */
+    private double matchRatio(String text, List<List<String>> keywords) {
+        if (keywords.isEmpty()) {
+            return 0;
+        }
+        int matched = 0;
+        for (List<String> group : keywords) {
+            if (group.stream().anyMatch(text::contains)) {
+                matched++;
+            }
+        }
+        return (double) matched / keywords.size();
+    }
+
+    /**
+     * 이동 수단 기준 반경 안에 있는 다른 후보 수 (가장 많은 매장 = 1)
+     */
+    private double[] compactness(List<StoreWithCoordinatesDTO> stores, RouteOptimizer.TravelMode mode) {
+        double radius = mode == RouteOptimizer.TravelMode.WALK ? 1_500 : 5_000;
+        int size = stores.size();
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        boolean[] located = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            try {
+                lats[i] = Double.parseDouble(stores.get(i).getLatitude());
+                lngs[i] = Double.parseDouble(stores.get(i).getLongitude());
+                located[i] = true;
+            } catch (NullPointerException | NumberFormatException e) {
+                located[i] = false;
+            }
+        }
+
+        int[] neighbours = new int[size];
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            if (!located[i]) {
+                continue;
+            }
+            for (int j = i + 1; j < size; j++) {
+                if (located[j] && StoreSpatialIndex.haversine(lats[i], lngs[i], lats[j], lngs[j]) <= radius) {
+                    neighbours[i]++;
+                    neighbours[j]++;
+                }
+            }
+        }
+        for (int count : neighbours) {
+            max = Math.max(max, count);
+        }
+
+        double[] scores = new double[size];
+        for (int i = 0; i < size; i++) {
+            scores[i] = max > 0 ? (double) neighbours[i] / max : 0;
+        }
+        return scores;
+    }
+
+    private record Scored(int index, double score) {
+    }
+}
@@ -1,8 +1,8 @@
 package com.jbeatda.domain.courses.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jbeatda.DTO.external.JbStoreDetailApiResponseDTO;
 import com.jbeatda.DTO.external.JbStoreListApiResponseDTO;
+import com.jbeatda.DTO.internal.AiCoursePickDTO;
 import com.jbeatda.DTO.internal.AiCourseRequestDTO;
 import com.jbeatda.DTO.internal.StoreWithCoordinatesDTO;
 import com.jbeatda.DTO.requestDTO.CourseSelectionRequestDTO;
@@ -11,26 +11,47 @@ import com.jbeatda.DTO.responseDTO.*;
 import com.jbeatda.domain.courses.entity.Course;
 import com.jbeatda.domain.courses.entity.CourseStore;
 import com.jbeatda.domain.courses.repository.CourseRepository;
-import com.jbeatda.domain.courses.repository.CourseStoreRepository;
+import com.jbeatda.domain.courses.repository.CourseStoreJdbcRepository;
 import com.jbeatda.domain.stores.client.JbStoreApiClient;
-import com.jbeatda.domain.stores.client.KakaoClient;
 import com.jbeatda.domain.stores.entity.Store;
-import com.jbeatda.domain.stores.repository.StoreRepository;
+import com.jbeatda.domain.stores.service.CoordinateResolver;
+import com.jbeatda.domain.stores.service.StoreResolver;
 import com.jbeatda.domain.users.entity.User;
 import com.jbeatda.domain.users.repository.UserRepository;
 import com.jbeatda.exception.*;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.jbeatda.domain.courses.cache.RecommendationCache;
+import com.jbeatda.domain.courses.client.CoursePickStreamParser;
 import com.jbeatda.domain.courses.client.OpenAiClient;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,60 +60,282 @@ import java.util.stream.Collectors;
 public class CourseService {
 
     private final JbStoreApiClient jbStoreApiClient;
-    private final KakaoClient kakaoClient;
+    private final CoordinateResolver coordinateResolver;
     private final OpenAiClient openAiClient;
     private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
-    private final StoreRepository storeRepository;
-    private final CourseStoreRepository courseStoreRepository;
+    private final StoreResolver storeResolver;
+    private final CourseStoreJdbcRepository courseStoreJdbcRepository;
+    private final RouteOptimizer routeOptimizer;
+    private final CandidateRanker candidateRanker;
+    private final RecommendationCache recommendationCache;
+    private final RuleBasedCourseEngine ruleBasedCourseEngine;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("geocodingExecutor")
+    private final Executor geocodingExecutor;
+    @Qualifier("courseStreamExecutor")
+    private final Executor courseStreamExecutor;
+
+    // 좌표 변환 단계 전체 제한 시간 (요청 1건 기준)
+    @Value("${course.recommend.geocoding.timeout-ms:8000}")
+    private long geocodingTimeoutMs;
+
+    // 지역별 매장 목록 동시 조회 전체 제한 시간 (넘으면 받은 지역만 사용)
+    @Value("${course.recommend.regions.timeout:PT5S}")
+    private Duration regionsTimeout;
+
+    // 스트리밍 응답 전체 제한 시간
+    @Value("${course.recommend.stream.timeout:PT90S}")
+    private Duration streamTimeout;
+
+    // ai: OpenAI 추천 / rule: 규칙 기반 추천만 사용 (빠른 모드)
+    @Value("${course.recommend.mode:ai}")
+    private String recommendMode;
+
+    // AI 추천 실패/지연 시 규칙 기반 추천으로 대체
+    @Value("${course.recommend.fallback.enabled:true}")
+    private boolean fallbackEnabled;
+
+    // 추천 요청 1건의 전체 제한 시간 (넘으면 AI 응답을 기다리지 않고 대체 추천)
+    @Value("${course.recommend.fallback.latency-budget:PT15S}")
+    private Duration latencyBudget;
+
+    private static final int AI_MAX_STORES = 3;
+    private static final int RULE_MAX_STORES = 5;
+
+
+    // ai 코스 추천 (같은 조건의 추천 결과가 캐시에 있으면 바로 반환)
+    public ApiResult recommendCourse(CourseSelectionRequestDTO requestDTO) {
+        return recommendationCache.getOrCompute(requestDTO, () -> computeCourse(requestDTO));
+    }
 
+    private AiCourseResponseDTO computeCourse(CourseSelectionRequestDTO requestDTO) {
+        long startedAt = System.nanoTime();
 
-    // ai 코스 추천
-    public ApiResult recommendCourse(CourseSelectionRequestDTO requestDTO) {
+        // 1 ~ 3. 후보 매장 조회 / 좌표 / 사전 순위 → AI 요청 데이터
+        AiCourseRequestDTO aiRequest = prepareAiRequest(requestDTO);
 
-        // 1. 지역 기준으로 식당 조회 (전북향토음식점목록조회 api)
-        List<JbStoreListApiResponseDTO.StoreItem> storeList = new ArrayList<>();
+        if (isRuleMode()) {
+            return ruleCourse(requestDTO, aiRequest);
+        }
+        if (!fallbackEnabled) {
+            return aiCourse(requestDTO, aiRequest);
+        }
 
-        for (String area : requestDTO.getRegions()) {
-            List<JbStoreListApiResponseDTO.StoreItem> apiItems = jbStoreApiClient.jbStoreAreaList(area);
-            storeList.addAll(apiItems); //
+        // 4 ~ 6. 남은 제한 시간 안에 AI 추천 (비동기 호출), 실패하거나 늦으면 규칙 기반 추천
+        //  - 후보 조회에서 제한 시간을 다 썼으면 AI 를 호출하지 않음
+        //  - 늦으면 future 를 취소 (HTTP 요청까지 취소되어 OpenAI 동시 호출 자리 반환)
+        long remaining = latencyBudget.toNanos() - (System.nanoTime() - startedAt);
+        if (remaining <= 0) {
+            return fallbackCourse(requestDTO, aiRequest, "timeout");
         }
+        CompletableFuture<String> future = openAiClient.recommendCourseAsync(aiRequest);
 
-        // 2. 식당 별로 위도 경도 추가하기
-        List<StoreWithCoordinatesDTO> storesWithCoordinates = new ArrayList<>();
+        try {
+            String aiRecommendation = future.get(remaining, TimeUnit.NANOSECONDS);
+            log.info("AI 코스 추천 완료");
+            return toCourseResponse(aiRecommendation, aiRequest, requestDTO.getTransportation());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return fallbackCourse(requestDTO, aiRequest, "timeout");
+        } catch (ExecutionException e) {
+            log.warn("AI 코스 추천 실패 - {}", e.getCause().getMessage());
+            return fallbackCourse(requestDTO, aiRequest, "error");
+        } catch (CustomException e) {
+            log.warn("AI 응답 처리 실패 - {}", e.getMessage());
+            return fallbackCourse(requestDTO, aiRequest, "error");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ExternalApiException("코스 추천 중 오류가 발생했습니다.");
+        }
+    }
 
-        for (JbStoreListApiResponseDTO.StoreItem storeItem : storeList) {
-            try {
-                // 2-1. 카카오 API로 주소 → 좌표 변환
-                List<String> coordinates = kakaoClient.getPoint(storeItem.getAddress());
-                String latitude = coordinates.get(0);   // 위도
-                String longitude = coordinates.get(1);  // 경도
+    private AiCourseResponseDTO aiCourse(CourseSelectionRequestDTO requestDTO, AiCourseRequestDTO aiRequest) {
 
-                log.info("카카오 API로 좌표 변환 완료 - 매장: {}, 주소: {}, lat: {}, lng: {}",
-                        storeItem.getName(), storeItem.getAddress(), latitude, longitude);
+        // 4. AI에게 코스 추천 요청 AiCourseRequestDTO 전달
+        String aiRecommendation = openAiClient.recommendCourse(aiRequest);
+        log.info("AI 코스 추천 완료");
 
-                // 2-2. 좌표가 포함된 매장 정보 생성
-                StoreWithCoordinatesDTO storeWithCoords = StoreWithCoordinatesDTO.builder()
-                        .storeItem(storeItem)
-                        .latitude(latitude)
-                        .longitude(longitude)
-                        .build();
+        // 5 ~ 6. AI 응답 → 코스
+        return toCourseResponse(aiRecommendation, aiRequest, requestDTO.getTransportation());
+    }
 
-                storesWithCoordinates.add(storeWithCoords);
+    /**
+     * 규칙 기반 코스 (AI 응답과 같은 방식으로 매장 정보를 채우고 동선 계산)
+     */
+    private AiCourseResponseDTO ruleCourse(CourseSelectionRequestDTO requestDTO, AiCourseRequestDTO aiRequest) {
+        AiCoursePickDTO pick = ruleBasedCourseEngine.recommend(requestDTO, aiRequest.getStores());
+        AiCourseResponseDTO courseResponse = rehydrate(pick, aiRequest.getStores(), RULE_MAX_STORES);
+        if (courseResponse.getStores().isEmpty()) {
+            throw new ExternalApiException("추천할 수 있는 매장이 없습니다.");
+        }
+        courseResponse.setSource(AiCourseResponseDTO.SOURCE_RULE);
+        applyRoute(courseResponse, requestDTO.getTransportation());
+        return courseResponse;
+    }
 
-            } catch (Exception e) {
-                log.error("매장 좌표 처리 실패 - 매장: {}, 주소: {}",
-                        storeItem.getName(), storeItem.getAddress(), e);
-                // 좌표 변환 실패한 매장은 제외하거나, 기본값으로 처리
-                continue;
+    private AiCourseResponseDTO fallbackCourse(CourseSelectionRequestDTO requestDTO, AiCourseRequestDTO aiRequest, String reason) {
+        log.warn("AI 코스 추천 대신 규칙 기반 추천 사용 - 사유: {}", reason);
+        Counter.builder("course.recommend.fallback")
+                .description("AI 대신 규칙 기반 추천을 사용한 횟수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return ruleCourse(requestDTO, aiRequest);
+    }
+
+    private boolean isRuleMode() {
+        return "rule".equalsIgnoreCase(recommendMode);
+    }
+
+    // ai 코스 추천 (SSE 스트리밍)
+    public SseEmitter recommendCourseStream(CourseSelectionRequestDTO requestDTO) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        try {
+            courseStreamExecutor.execute(() -> streamCourse(requestDTO, emitter));
+        } catch (RejectedExecutionException e) {
+            log.warn("코스 추천 스트리밍 작업 거절 - 대기열 가득 참");
+            sendError(emitter, ApiResponseDTO.fail(ApiResponseCode.EXTERNAL_API_ERROR));
+        }
+        return emitter;
+    }
+
+    /**
+     * 스트리밍 코스 추천
+     *  이벤트: status → courseName → description → store(매장마다) → done(동선 계산된 최종 코스) / error
+     *  - store 이벤트는 AI 가 고른 순서대로 보내며 visitOrder 는 없음 (방문 순서는 done 의 동선 계산 결과만 사용)
+     */
+    private void streamCourse(CourseSelectionRequestDTO requestDTO, SseEmitter emitter) {
+        try {
+            // 캐시된 추천이 있으면 AI 호출 없이 같은 순서의 이벤트로 전송
+            AiCourseResponseDTO cached = recommendationCache.find(requestDTO, () -> computeCourse(requestDTO));
+            if (cached != null) {
+                replayCourse(emitter, cached, "cached");
+                emitter.complete();
+                return;
+            }
+
+            sendEvent(emitter, "status", Map.of("stage", "collecting"));
+            AiCourseRequestDTO aiRequest = prepareAiRequest(requestDTO);
+            if (isRuleMode()) {
+                replayCourse(emitter, ruleCourse(requestDTO, aiRequest), "rule");
+                emitter.complete();
+                return;
+            }
+            sendEvent(emitter, "status", Map.of("stage", "recommending", "candidateCount", aiRequest.getStores().size()));
+
+            // AI 응답 조각을 받으면서 완성된 값부터 전송
+            List<StoreWithCoordinatesDTO> candidates = aiRequest.getStores();
+            Set<Integer> sent = new HashSet<>();
+            CoursePickStreamParser parser = new CoursePickStreamParser(new CoursePickStreamParser.Listener() {
+                @Override
+                public void onCourseName(String courseName) {
+                    sendEvent(emitter, "courseName", Map.of("courseName", courseName));
+                }
+
+                @Override
+                public void onDescription(String description) {
+                    sendEvent(emitter, "description", Map.of("description", description));
+                }
+
+                @Override
+                public void onPick(int number) {
+                    if (sent.size() < AI_MAX_STORES && number >= 1 && number <= candidates.size() && sent.add(number)) {
+                        sendEvent(emitter, "store", toRecommendedStore(candidates.get(number - 1), null));
+                    }
+                }
+            });
+
+            // 최종 코스 (방문 순서/거리/시간은 서버 계산 결과)
+            AiCourseResponseDTO courseResponse;
+            try {
+                String aiRecommendation = openAiClient.streamCourseRecommendation(aiRequest, parser::feed);
+                courseResponse = toCourseResponse(aiRecommendation, aiRequest, requestDTO.getTransportation());
+            } catch (CustomException e) {
+                // 매장을 아직 하나도 보내지 않았으면 규칙 기반 추천으로 대체
+                if (!fallbackEnabled || !sent.isEmpty()) {
+                    throw e;
+                }
+                replayCourse(emitter, fallbackCourse(requestDTO, aiRequest, "error"), "fallback");
+                emitter.complete();
+                return;
             }
+            recommendationCache.put(requestDTO, courseResponse);
+            sendEvent(emitter, "done", courseResponse);
+            emitter.complete();
+
+        } catch (ClientDisconnectedException e) {
+            log.info("코스 추천 스트리밍 - 클라이언트 연결 종료");
+            emitter.complete();
+
+        } catch (CustomException e) {
+            sendError(emitter, ApiResponseDTO.fail(e.getErrorCode().toString(), e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("코스 추천 스트리밍 중 오류 발생", e);
+            sendError(emitter, ApiResponseDTO.fail(ApiResponseCode.EXTERNAL_API_ERROR));
+        }
+    }
+
+    /**
+     * 완성된 코스를 스트리밍과 같은 순서의 이벤트로 전송 (캐시 / 규칙 기반 추천)
+     */
+    private void replayCourse(SseEmitter emitter, AiCourseResponseDTO course, String stage) {
+        sendEvent(emitter, "status", Map.of("stage", stage));
+        if (course.getCourseName() != null) {
+            sendEvent(emitter, "courseName", Map.of("courseName", course.getCourseName()));
+        }
+        if (course.getDescription() != null) {
+            sendEvent(emitter, "description", Map.of("description", course.getDescription()));
+        }
+        for (AiCourseResponseDTO.RecommendedStore store : course.getStores()) {
+            sendEvent(emitter, "store", withoutVisitOrder(store));
+        }
+        sendEvent(emitter, "done", course);
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊겼으면 AI 스트림도 중단
+            throw new ClientDisconnectedException(e);
+        }
+    }
+
+    private void sendError(SseEmitter emitter, ApiResponseDTO<?> error) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(error, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.info("코스 추천 스트리밍 - 오류 전송 실패(연결 종료), {}", e.getMessage());
         }
+    }
+
+    private static class ClientDisconnectedException extends RuntimeException {
+        ClientDisconnectedException(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * 후보 매장 조회 → 좌표 변환 → 사전 순위 → AI 요청 데이터
+     */
+    private AiCourseRequestDTO prepareAiRequest(CourseSelectionRequestDTO requestDTO) {
+
+        // 1. 지역 기준으로 식당 조회 (전북향토음식점목록조회 api, 지역별 동시 호출)
+        List<JbStoreListApiResponseDTO.StoreItem> storeList = fetchRegionStores(requestDTO.getRegions());
+
+        // 2. 식당 별로 위도 경도 추가하기 (병렬 처리, 입력 순서 유지)
+        List<StoreWithCoordinatesDTO> storesWithCoordinates = attachCoordinates(storeList);
 
         log.info("좌표 처리 완료 - 총 매장 수: {}, 성공: {}",
                 storeList.size(), storesWithCoordinates.size());
 
-        // 3. ai에 보낼 데이터 최종 정리 AiCourseRequestDTO 만들기
+        // 3. ai에 보낼 데이터 최종 정리 AiCourseRequestDTO 만들기 (사전 순위 상위 후보만 전달)
         AiCourseRequestDTO aiRequest = AiCourseRequestDTO.builder()
                 .foodStyles(requestDTO.getFoodStyles())
                 .transportation(requestDTO.getTransportation())
@@ -102,34 +345,103 @@ public class CourseService {
                 .region(String.join(",", requestDTO.getRegions()))
                 .build();
 
-        // 4. AI에게 코스 추천 요청 AiCourseRequestDTO 전달
-        String aiRecommendation = openAiClient.recommendCourse(aiRequest);
-        log.info("AI 코스 추천 완료");
+        // 사전 순위 전 토큰 수는 매장별 길이 합으로 추정, 순위 후 프롬프트는 실제 호출에서 그대로 사용
+        int promptTokensBefore = openAiClient.estimatePromptTokens(aiRequest);
+        aiRequest.setStores(candidateRanker.rank(requestDTO, storesWithCoordinates));
+        openAiClient.preparePrompt(aiRequest);
+        int promptTokensAfter = openAiClient.estimatePromptTokens(aiRequest);
+        recordPromptTokens(promptTokensBefore, promptTokensAfter);
 
+        return aiRequest;
+    }
 
-        // 5. AI 응답을 JSON으로 파싱하여 DTO 변환 AiCourseResponseDTO
-        try {
-            AiCourseResponseDTO courseResponse = objectMapper.readValue(aiRecommendation, AiCourseResponseDTO.class);
-            log.info("AI 응답 파싱 완료 - 코스명: {}, 매장 수: {}",
-                    courseResponse.getCourseName(), courseResponse.getStoreCount());
+    /**
+     * 지역별 매장 목록을 동시에 조회해서 합치기
+     *  - 모든 지역을 한 번에 요청하고 공통 제한 시간까지만 기다림 (전체 시간 = 가장 느린 지역)
+     *  - 결과는 요청한 지역 순서대로, 같은 매장(sno)은 처음 나온 것만 사용
+     *  - 실패/시간 초과한 지역은 제외, 모든 지역이 실패하면 예외
+     */
+    private List<JbStoreListApiResponseDTO.StoreItem> fetchRegionStores(List<String> regions) {
+        List<String> areas = regions.stream().distinct().toList();
+        List<CompletableFuture<List<JbStoreListApiResponseDTO.StoreItem>>> futures = new ArrayList<>(areas.size());
+        for (String area : areas) {
+            futures.add(jbStoreApiClient.jbStoreAreaListAsync(area));
+        }
 
-            // 매장 수가 3개를 초과하면 3개로 제한
-            if (courseResponse.getStores() != null && courseResponse.getStores().size() > 3) {
-                log.info("매장 수 제한 적용 - 기존: {}개 → 제한: 3개", courseResponse.getStores().size());
+        long deadline = System.nanoTime() + regionsTimeout.toNanos();
+        Map<String, JbStoreListApiResponseDTO.StoreItem> merged = new LinkedHashMap<>();
+        List<JbStoreListApiResponseDTO.StoreItem> withoutSno = new ArrayList<>();
+        CustomException firstError = null;
+        int succeeded = 0;
 
-                // visitOrder 기준으로 정렬 후 상위 3개만 선택
-                List<AiCourseResponseDTO.RecommendedStore> limitedStores = courseResponse.getStores().stream()
-                        .sorted((s1, s2) -> Integer.compare(s1.getVisitOrder(), s2.getVisitOrder()))
-                        .limit(3)
-                        .collect(Collectors.toList());
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<List<JbStoreListApiResponseDTO.StoreItem>> future = futures.get(i);
+            String area = areas.get(i);
+            try {
+                long remaining = Math.max(deadline - System.nanoTime(), 0);
+                for (JbStoreListApiResponseDTO.StoreItem item : future.get(remaining, TimeUnit.NANOSECONDS)) {
+                    if (item.getSno() == null || item.getSno().isBlank()) {
+                        withoutSno.add(item);
+                    } else {
+                        merged.putIfAbsent(item.getSno(), item);
+                    }
+                }
+                succeeded++;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("지역 매장 목록 조회 시간 초과 - 지역: {}", area);
+                if (firstError == null) {
+                    firstError = new ExternalApiException("맛집 정보 조회 시간이 초과되었습니다.");
+                }
+            } catch (ExecutionException e) {
+                log.warn("지역 매장 목록 조회 실패 - 지역: {}, {}", area, e.getCause().getMessage());
+                if (firstError == null) {
+                    firstError = e.getCause() instanceof CustomException cause
+                            ? cause : new ExternalApiException("맛집 정보 조회 중 오류가 발생했습니다.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new ExternalApiException("맛집 정보 조회가 중단되었습니다.");
+            }
+        }
+
+        if (succeeded == 0 && firstError != null) {
+            throw firstError;
+        }
 
-                courseResponse.setStores(limitedStores);
-                courseResponse.setStoreCount(3);
+        List<JbStoreListApiResponseDTO.StoreItem> storeList = new ArrayList<>(merged.size() + withoutSno.size());
+        storeList.addAll(merged.values());
+        storeList.addAll(withoutSno);
+        log.info("지역 매장 목록 조회 완료 - 지역: {}/{}, 매장 수: {}", succeeded, areas.size(), storeList.size());
+        return storeList;
+    }
+
+    /**
+     * AI 응답(매장 번호)을 파싱해서 매장 정보를 채우고 방문 순서 계산
+     */
+    private AiCourseResponseDTO toCourseResponse(String aiRecommendation, AiCourseRequestDTO aiRequest, String transportation) {
+
+        // 5. AI 응답(매장 번호)을 파싱해서 매장 정보 채우기 AiCourseResponseDTO
+        try {
+            AiCoursePickDTO pick = objectMapper.readValue(aiRecommendation, AiCoursePickDTO.class);
+            AiCourseResponseDTO courseResponse = rehydrate(pick, aiRequest.getStores(), AI_MAX_STORES);
+            if (courseResponse.getStores().isEmpty()) {
+                throw AiException.parseError(aiRecommendation);
             }
+            courseResponse.setSource(AiCourseResponseDTO.SOURCE_AI);
+            log.info("AI 응답 파싱 완료 - 코스명: {}, 매장 수: {}",
+                    courseResponse.getCourseName(), courseResponse.getStoreCount());
+
+            // 6. 방문 순서는 좌표 기준으로 서버에서 다시 계산
+            applyRoute(courseResponse, transportation);
 
             return courseResponse;
 
 
+        } catch (AiException e) {
+            throw e;
+
         } catch (Exception e) {
             log.error("코스 추천 처리 중 오류 발생", e);
 
@@ -143,63 +455,254 @@ public class CourseService {
         }
     }
 
-    //코스 생성 및 저장
-    @Transactional
-    public ApiResult createCourse(int userId, CreateCourseRequestDTO requestDTO) {
+    /**
+     * AI가 고른 매장 번호 → 전체 매장 정보 (번호는 프롬프트 매장목록의 1부터 시작하는 순번)
+     *  - 범위를 벗어나거나 중복된 번호는 무시, 최대 maxStores 개
+     */
+    private AiCourseResponseDTO rehydrate(AiCoursePickDTO pick, List<StoreWithCoordinatesDTO> candidates, int maxStores) {
+        List<AiCourseResponseDTO.RecommendedStore> stores = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+
+        if (pick.getPicks() != null) {
+            for (Integer number : pick.getPicks()) {
+                if (stores.size() >= maxStores) {
+                    log.info("매장 수 제한 적용 - 기존: {}개 → 제한: {}개", pick.getPicks().size(), maxStores);
+                    break;
+                }
+                if (number == null || number < 1 || number > candidates.size() || !seen.add(number)) {
+                    log.warn("AI 응답의 잘못된 매장 번호 무시 - {}", number);
+                    continue;
+                }
+                stores.add(toRecommendedStore(candidates.get(number - 1), stores.size() + 1));
+            }
+        }
 
-        // 1. 유저 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저를 찾을 수 없습니다."));
+        AiCourseResponseDTO courseResponse = new AiCourseResponseDTO();
+        courseResponse.setCourseName(pick.getCourseName());
+        courseResponse.setDescription(pick.getDescription());
+        courseResponse.setStores(stores);
+        courseResponse.setStoreCount(stores.size());
+        return courseResponse;
+    }
 
-        // 2. Course 엔티티 생성 및 저장
-        Course course = Course.fromBaseUser(user, requestDTO);
-        Course savedCourse = courseRepository.save(course);
+    /**
+     * @param visitOrder 방문 순서 (스트리밍 store 이벤트는 null)
+     */
+    private AiCourseResponseDTO.RecommendedStore toRecommendedStore(StoreWithCoordinatesDTO store, Integer visitOrder) {
+        AiCourseResponseDTO.RecommendedStore recommended = new AiCourseResponseDTO.RecommendedStore();
+        recommended.setStoreName(store.getStoreName());
+        recommended.setStoreImage(store.getStoreImage());
+        recommended.setArea(store.getArea());
+        recommended.setAddress(store.getAddress());
+        recommended.setSmenu(store.getMenu());
+        recommended.setTime(store.getTime());
+        recommended.setTel(store.getTel());
+        recommended.setSno(store.getSno());
+        recommended.setVisitOrder(visitOrder);
+        recommended.setLat(store.getLatitude());
+        recommended.setLng(store.getLongitude());
+        return recommended;
+    }
 
-        // 3. 각 Store 정보 처리 및 CourseStore 생성
-        List<CourseStore> courseStores = new ArrayList<>();
-        for (CreateCourseRequestDTO.StoreDTO storeDTO : requestDTO.getStores()) {
+    /**
+     * store 이벤트용 복사본 (캐시된 코스를 다시 보낼 때도 스트리밍과 같이 visitOrder 제외)
+     */
+    private AiCourseResponseDTO.RecommendedStore withoutVisitOrder(AiCourseResponseDTO.RecommendedStore store) {
+        AiCourseResponseDTO.RecommendedStore event = new AiCourseResponseDTO.RecommendedStore();
+        event.setStoreName(store.getStoreName());
+        event.setStoreImage(store.getStoreImage());
+        event.setArea(store.getArea());
+        event.setAddress(store.getAddress());
+        event.setSmenu(store.getSmenu());
+        event.setTime(store.getTime());
+        event.setTel(store.getTel());
+        event.setSno(store.getSno());
+        event.setLat(store.getLat());
+        event.setLng(store.getLng());
+        return event;
+    }
 
-            // 3-1. Store 존재 여부 확인
-            Store store = storeRepository.findBySno(storeDTO.getSno())
-                    .orElseGet(() -> {
-                        // 3-2. Store가 없으면 공공 API 호출해서 상세 정보 가져오기
-                        log.info("Store 정보가 없어서 공공 API 호출 - sno: {}", storeDTO.getSno());
+    /**
+     * 사전 순위 적용 전/후 프롬프트 예상 토큰 수 (course.recommend.prompt.tokens, stage=before|after)
+     */
+    private void recordPromptTokens(int before, int after) {
+        DistributionSummary.builder("course.recommend.prompt.tokens")
+                .tag("stage", "before")
+                .register(meterRegistry)
+                .record(before);
+        DistributionSummary.builder("course.recommend.prompt.tokens")
+                .tag("stage", "after")
+                .register(meterRegistry)
+                .record(after);
+
+        log.info("프롬프트 예상 토큰 수 - 사전 순위 전: {}, 후: {}", before, after);
+    }
 
-                        JbStoreDetailApiResponseDTO.StoreDetail storeDetail =
-                                jbStoreApiClient.jbStoreDetail(storeDTO.getSno());
+    /**
+     * 선택된 매장의 방문 순서(visitOrder)와 총 이동 거리/시간 계산
+     *  - 좌표가 없는 매장은 경로 뒤에 원래 순서대로 배치
+     */
+    private void applyRoute(AiCourseResponseDTO courseResponse, String transportation) {
+        List<AiCourseResponseDTO.RecommendedStore> stores = courseResponse.getStores();
+        if (stores == null || stores.isEmpty()) {
+            return;
+        }
 
-                        if (storeDetail == null) {
-                            log.warn("공공 API에서 매장 정보를 찾을 수 없음 - sno: {}", storeDTO.getSno());
-                            throw new EntityNotFoundException("매장 정보를 찾을 수 없습니다. SNO: " + storeDTO.getSno());
-                        }
+        List<AiCourseResponseDTO.RecommendedStore> located = new ArrayList<>();
+        List<AiCourseResponseDTO.RecommendedStore> unlocated = new ArrayList<>();
+        for (AiCourseResponseDTO.RecommendedStore store : stores) {
+            if (parseCoordinate(store.getLat()) != null && parseCoordinate(store.getLng()) != null) {
+                located.add(store);
+            } else {
+                unlocated.add(store);
+            }
+        }
 
-                        // 3-3. 클라이언트 제공 좌표 사용
-                        List<String> coordinates = List.of(storeDTO.getLat(), storeDTO.getLng());
-                        log.info("클라이언트 제공 좌표 사용 - coordinates: {}", coordinates);
+        double[] lats = new double[located.size()];
+        double[] lngs = new double[located.size()];
+        for (int i = 0; i < located.size(); i++) {
+            lats[i] = parseCoordinate(located.get(i).getLat());
+            lngs[i] = parseCoordinate(located.get(i).getLng());
+        }
+        RouteOptimizer.Route route = routeOptimizer.optimize(lats, lngs, transportation);
 
-                        // 3-4. StoreDetail을 Store 엔티티로 직접 변환 및 저장
-                        Store newStore = Store.fromStoreDetail(storeDetail, coordinates);
+        List<AiCourseResponseDTO.RecommendedStore> ordered = new ArrayList<>(stores.size());
+        for (int index : route.order()) {
+            ordered.add(located.get(index));
+        }
+        ordered.addAll(unlocated);
+        for (int i = 0; i < ordered.size(); i++) {
+            ordered.get(i).setVisitOrder(i + 1);
+        }
 
-                        return storeRepository.save(newStore);
-                    });
+        courseResponse.setStores(ordered);
+        courseResponse.setStoreCount(ordered.size());
+        courseResponse.setTotalDistance((int) Math.round(route.totalDistanceMeters()));
+        courseResponse.setTotalTravelTime((int) route.totalMinutes());
 
-            // 3-5. CourseStore 생성 (팩토리 메서드 사용)
-            CourseStore courseStore = CourseStore.fromBase(
-                    savedCourse,
-                    store,
-                    storeDTO.getVisitOrder()
-            );
+        log.info("코스 동선 계산 완료 - 매장 수: {}, 총 거리: {}m, 예상 이동 시간: {}분",
+                ordered.size(), courseResponse.getTotalDistance(), courseResponse.getTotalTravelTime());
+    }
 
-            courseStores.add(courseStore);
+    private Double parseCoordinate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
         }
+    }
 
-        // 4. CourseStore 일괄 저장
-        courseStoreRepository.saveAll(courseStores);
+    /**
+     * 매장 목록의 주소 → 좌표 변환을 병렬로 수행
+     *  - 결과는 입력 순서를 유지
+     *  - 변환에 실패했거나 제한 시간 안에 끝나지 않은 매장은 제외
+     */
+    private List<StoreWithCoordinatesDTO> attachCoordinates(List<JbStoreListApiResponseDTO.StoreItem> storeList) {
+        List<CompletableFuture<StoreWithCoordinatesDTO>> futures = new ArrayList<>(storeList.size());
+        for (JbStoreListApiResponseDTO.StoreItem storeItem : storeList) {
+            // 공공 API 좌표가 유효하면 외부 호출 없이 바로 사용
+            List<String> upstream = coordinateResolver.fromUpstream(storeItem.getFLatitude(), storeItem.getFLongitude());
+            if (upstream != null) {
+                futures.add(CompletableFuture.completedFuture(toStoreWithCoordinates(storeItem, upstream)));
+                continue;
+            }
+            futures.add(CompletableFuture.supplyAsync(() -> geocodeStore(storeItem), geocodingExecutor));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(geocodingTimeoutMs);
+        List<StoreWithCoordinatesDTO> storesWithCoordinates = new ArrayList<>(storeList.size());
+
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<StoreWithCoordinatesDTO> future = futures.get(i);
+            JbStoreListApiResponseDTO.StoreItem storeItem = storeList.get(i);
+            try {
+                long remaining = Math.max(deadline - System.nanoTime(), 0);
+                StoreWithCoordinatesDTO storeWithCoords = future.get(remaining, TimeUnit.NANOSECONDS);
+                if (storeWithCoords != null) {
+                    storesWithCoordinates.add(storeWithCoords);
+                }
+            } catch (TimeoutException e) {
+                // 아직 시작하지 않은 작업은 취소되어 실행되지 않음
+                future.cancel(true);
+                log.warn("매장 좌표 처리 시간 초과 - 매장: {}, 주소: {}", storeItem.getName(), storeItem.getAddress());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                log.warn("매장 좌표 처리 중단 - 처리된 매장 수: {}", storesWithCoordinates.size());
+                break;
+            } catch (ExecutionException e) {
+                log.error("매장 좌표 처리 실패 - 매장: {}, 주소: {}",
+                        storeItem.getName(), storeItem.getAddress(), e.getCause());
+            }
+        }
+
+        return storesWithCoordinates;
+    }
+
+    /**
+     * 매장 1건 좌표 변환 (실패 시 null → 목록에서 제외)
+     */
+    private StoreWithCoordinatesDTO geocodeStore(JbStoreListApiResponseDTO.StoreItem storeItem) {
+        try {
+            // 캐시 → 카카오 API로 주소 → 좌표 변환
+            List<String> coordinates = coordinateResolver.resolve(
+                    storeItem.getFLatitude(), storeItem.getFLongitude(), storeItem.getAddress());
+
+            log.info("좌표 변환 완료 - 매장: {}, 주소: {}, lat: {}, lng: {}",
+                    storeItem.getName(), storeItem.getAddress(), coordinates.get(0), coordinates.get(1));
+
+            return toStoreWithCoordinates(storeItem, coordinates);
+
+        } catch (Exception e) {
+            log.error("매장 좌표 처리 실패 - 매장: {}, 주소: {}",
+                    storeItem.getName(), storeItem.getAddress(), e);
+            // 좌표 변환 실패한 매장은 제외
+            return null;
+        }
+    }
+
+    private StoreWithCoordinatesDTO toStoreWithCoordinates(JbStoreListApiResponseDTO.StoreItem storeItem, List<String> coordinates) {
+        return StoreWithCoordinatesDTO.builder()
+                .storeItem(storeItem)
+                .latitude(coordinates.get(0))   // 위도
+                .longitude(coordinates.get(1))  // 경도
+                .build();
+    }
 
-        // 5. Course에 CourseStore 리스트 설정 (양방향 관계 동기화)
-        savedCourse.setCourseStores(courseStores);
+    //코스 생성 및 저장
+    //  - 매장 저장(외부 API 호출 포함)은 코스 트랜잭션 밖에서 먼저 커밋, 코스 / 코스 매장만 한 트랜잭션으로 저장
+    public ApiResult createCourse(int userId, CreateCourseRequestDTO requestDTO) {
+
+        // 1. 유저 확인
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("유저를 찾을 수 없습니다."));
+
+        // 2. Store 일괄 조회 (캐시 → IN 쿼리 1번 → 없는 매장은 상세 API 동시 호출 + 클라이언트 제공 좌표로 일괄 저장)
+        Map<String, List<String>> coordinatesHints = new LinkedHashMap<>();
+        for (CreateCourseRequestDTO.StoreDTO storeDTO : requestDTO.getStores()) {
+            List<String> coordinates = storeDTO.getLat() != null && storeDTO.getLng() != null
+                    ? List.of(storeDTO.getLat(), storeDTO.getLng()) : null;
+            coordinatesHints.put(storeDTO.getSno(), coordinates);
+        }
+        Map<String, Store> stores = storeResolver.resolveStores(coordinatesHints);
+
+        // 3 ~ 4. Course 저장 + CourseStore JDBC batch 일괄 저장 (INSERT 1번), 한 트랜잭션
+        Course savedCourse = transactionTemplate.execute(status -> {
+            Course course = Course.fromBaseUser(user, requestDTO);
+            Course saved = courseRepository.save(course);
+
+            List<CourseStore> courseStores = new ArrayList<>();
+            for (CreateCourseRequestDTO.StoreDTO storeDTO : requestDTO.getStores()) {
+                courseStores.add(CourseStore.fromBase(saved, stores.get(storeDTO.getSno()), storeDTO.getVisitOrder()));
+            }
+            courseStoreJdbcRepository.insertAll(courseStores);
+            return saved;
+        });
 
-        // 6. 성공 응답 반환
+        // 5. 성공 응답 반환
         return CreateCourseResponseDTO.createDTO(savedCourse.getId());
     }
 
@@ -0,0 +1,293 @@
+package com.jbeatda.domain.courses.service;
+
+import com.jbeatda.domain.stores.index.StoreSpatialIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 코스 방문 순서 최적화 (출발/도착 지점을 정하지 않는 편도 경로)
+ *  - 매장 수가 적으면 전체 경우를 DP로 계산해서 최단 경로 (Held-Karp)
+ *  - 많으면 최근접 이웃으로 초기 경로를 만들고 2-opt(구간 뒤집기) + Or-opt(1~3개 구간 옮기기)로 개선
+ *  - 거리는 직선거리(하버사인) × 이동수단별 우회 계수, 시간은 이동수단별 평균 속도 기준
+ */
+@Component
+public class RouteOptimizer {
+
+    // Or-opt 에서 한 번에 옮기는 최대 매장 수
+    private static final int OR_OPT_MAX_SEGMENT = 3;
+
+    // 이 수 이하면 정확한 최단 경로 계산 (2^k * k^2)
+    @Value("${course.route.exact-max-stores:10}")
+    private int exactMaxStores;
+
+    /**
+     * 이동 수단 (요청의 transportation 문자열 기준)
+     */
+    public enum TravelMode {
+        WALK(4.0, 1.2),
+        BICYCLE(14.0, 1.3),
+        TRANSIT(20.0, 1.4),
+        CAR(35.0, 1.3);
+
+        private final double speedKmh;
+        private final double detourFactor;  // 직선거리 대비 실제 이동 거리 비율
+
+        TravelMode(double speedKmh, double detourFactor) {
+            this.speedKmh = speedKmh;
+            this.detourFactor = detourFactor;
+        }
+
+        public static TravelMode from(String transportation) {
+            if (transportation == null) {
+                return CAR;
+            }
+            String value = transportation.toLowerCase();
+            if (value.contains("도보") || value.contains("걷") || value.contains("walk")) {
+                return WALK;
+            }
+            if (value.contains("자전거") || value.contains("bike") || value.contains("bicycle")) {
+                return BICYCLE;
+            }
+            if (value.contains("대중교통") || value.contains("버스") || value.contains("지하철")
+                    || value.contains("bus") || value.contains("transit")) {
+                return TRANSIT;
+            }
+            return CAR;
+        }
+    }
+
+    /**
+     * 최적화 결과
+     * @param order 방문 순서 (입력 인덱스)
+     * @param totalDistanceMeters 총 이동 거리 (미터)
+     * @param totalMinutes 총 이동 시간 (분)
+     */
+    public record Route(int[] order, double totalDistanceMeters, long totalMinutes) {
+    }
+
+    /**
+     * 방문 순서 계산
+     * @param lats 위도 배열
+     * @param lngs 경도 배열 (lats 와 같은 길이)
+     */
+    public Route optimize(double[] lats, double[] lngs, String transportation) {
+        int size = lats.length;
+        TravelMode mode = TravelMode.from(transportation);
+        if (size == 0) {
+            return new Route(new int[0], 0, 0);
+        }
+
+        double[][] distances = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                double distance = StoreSpatialIndex.haversine(lats[i], lngs[i], lats[j], lngs[j]) * mode.detourFactor;
+                distances[i][j] = distance;
+                distances[j][i] = distance;
+            }
+        }
+
+        int[] order = size <= exactMaxStores ? exactOrder(distances) : heuristicOrder(distances);
+
+        double total = pathLength(order, distances);
+        long minutes = Math.round(total / 1000d / mode.speedKmh * 60d);
+        return new Route(order, total, minutes);
+    }
+
+    /**
+     * Held-Karp: dp[방문한 매장 집합][마지막 매장] = 최단 거리
+     */
+    private int[] exactOrder(double[][] distances) {
+        int size = distances.length;
+        if (size == 1) {
+            return new int[]{0};
+        }
+
+        int full = (1 << size) - 1;
+        double[][] dp = new double[1 << size][size];
+        int[][] previous = new int[1 << size][size];
+        for (double[] row : dp) {
+            Arrays.fill(row, Double.MAX_VALUE);
+        }
+        for (int i = 0; i < size; i++) {
+            dp[1 << i][i] = 0;
+            previous[1 << i][i] = -1;
+        }
+
+        for (int mask = 1; mask <= full; mask++) {
+            for (int last = 0; last < size; last++) {
+                double current = dp[mask][last];
+                if (current == Double.MAX_VALUE || (mask & (1 << last)) == 0) {
+                    continue;
+                }
+                for (int next = 0; next < size; next++) {
+                    if ((mask & (1 << next)) != 0) {
+                        continue;
+                    }
+                    int nextMask = mask | (1 << next);
+                    double candidate = current + distances[last][next];
+                    if (candidate < dp[nextMask][next]) {
+                        dp[nextMask][next] = candidate;
+                        previous[nextMask][next] = last;
+                    }
+                }
+            }
+        }
+
+        int last = 0;
+        for (int i = 1; i < size; i++) {
+            if (dp[full][i] < dp[full][last]) {
+                last = i;
+            }
+        }
+
+        // 마지막 매장부터 역추적
+        int[] order = new int[size];
+        int mask = full;
+        for (int position = size - 1; position >= 0; position--) {
+            order[position] = last;
+            int before = previous[mask][last];
+            mask &= ~(1 << last);
+            last = before;
+        }
+        return order;
+    }
+
+    /**
+     * 모든 출발점에서 최근접 이웃 경로 → 2-opt / Or-opt 개선 (둘 다 더 줄지 않을 때까지) → 가장 짧은 경로
+     */
+    private int[] heuristicOrder(double[][] distances) {
+        int size = distances.length;
+        int[] best = null;
+        double bestLength = Double.MAX_VALUE;
+
+        for (int start = 0; start < size; start++) {
+            int[] order = nearestNeighbour(distances, start);
+            do {
+                twoOpt(order, distances);
+            } while (orOpt(order, distances));
+            double length = pathLength(order, distances);
+            if (length < bestLength) {
+                bestLength = length;
+                best = order;
+            }
+        }
+        return best;
+    }
+
+    private int[] nearestNeighbour(double[][] distances, int start) {
+        int size = distances.length;
+        boolean[] visited = new boolean[size];
+        int[] order = new int[size];
+        order[0] = start;
+        visited[start] = true;
+
+        for (int position = 1; position < size; position++) {
+            int current = order[position - 1];
+            int nearest = -1;
+            for (int candidate = 0; candidate < size; candidate++) {
+                if (!visited[candidate] && (nearest < 0 || distances[current][candidate] < distances[current][nearest])) {
+                    nearest = candidate;
+                }
+            }
+            order[position] = nearest;
+            visited[nearest] = true;
+        }
+        return order;
+    }
+
+    /**
+     * 구간 [i, j] 를 뒤집어서 짧아지면 적용, 더 이상 개선되지 않을 때까지 반복 (편도 경로 기준)
+     */
+    private void twoOpt(int[] order, double[][] distances) {
+        int size = order.length;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 0; i < size - 1; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    double before = (i > 0 ? distances[order[i - 1]][order[i]] : 0)
+                            + (j < size - 1 ? distances[order[j]][order[j + 1]] : 0);
+                    double after = (i > 0 ? distances[order[i - 1]][order[j]] : 0)
+                            + (j < size - 1 ? distances[order[i]][order[j + 1]] : 0);
+                    if (after + 1e-9 < before) {
+                        reverse(order, i, j);
+                        improved = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 1 ~ 3개 연속 구간을 다른 위치로 옮겨서(뒤집기 포함) 짧아지면 적용 (2-opt 로 못 찾는 개선)
+     * @return 한 번이라도 적용했으면 true
+     */
+    private boolean orOpt(int[] order, double[][] distances) {
+        int size = order.length;
+        boolean changed = false;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            search:
+            for (int length = 1; length <= OR_OPT_MAX_SEGMENT && length < size; length++) {
+                for (int i = 0; i + length <= size; i++) {
+                    int first = order[i];
+                    int last = order[i + length - 1];
+                    int before = i > 0 ? order[i - 1] : -1;
+                    int after = i + length < size ? order[i + length] : -1;
+                    double removed = distance(distances, before, first) + distance(distances, last, after)
+                            - distance(distances, before, after);
+
+                    // 구간을 뺀 경로의 k 번째 자리(k-1, k 사이)에 끼워 넣기
+                    int[] rest = new int[size - length];
+                    System.arraycopy(order, 0, rest, 0, i);
+                    System.arraycopy(order, i + length, rest, i, size - i - length);
+                    for (int k = 0; k <= rest.length; k++) {
+                        int left = k > 0 ? rest[k - 1] : -1;
+                        int right = k < rest.length ? rest[k] : -1;
+                        double bridge = distance(distances, left, right);
+                        double forward = distance(distances, left, first) + distance(distances, last, right) - bridge;
+                        double backward = distance(distances, left, last) + distance(distances, first, right) - bridge;
+                        boolean reversed = backward < forward;
+                        if (Math.min(forward, backward) + 1e-9 < removed) {
+                            int[] segment = Arrays.copyOfRange(order, i, i + length);
+                            if (reversed) {
+                                reverse(segment, 0, length - 1);
+                            }
+                            System.arraycopy(rest, 0, order, 0, k);
+                            System.arraycopy(segment, 0, order, k, length);
+                            System.arraycopy(rest, k, order, k + length, rest.length - k);
+                            improved = true;
+                            changed = true;
+                            break search;
+                        }
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    // 경로 끝(-1)과의 거리는 0 (편도 경로)
+    private static double distance(double[][] distances, int from, int to) {
+        return from < 0 || to < 0 ? 0 : distances[from][to];
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int temp = order[from];
+            order[from++] = order[to];
+            order[to--] = temp;
+        }
+    }
+
+    private static double pathLength(int[] order, double[][] distances) {
+        double length = 0;
+        for (int i = 1; i < order.length; i++) {
+            length += distances[order[i - 1]][order[i]];
+        }
+        return length;
+    }
+}
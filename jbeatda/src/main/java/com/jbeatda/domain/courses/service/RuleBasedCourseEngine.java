@@ -0,0 +1,187 @@
+package com.jbeatda.domain.courses.service;
+
+import com.jbeatda.DTO.internal.AiCoursePickDTO;
+import com.jbeatda.DTO.internal.StoreWithCoordinatesDTO;
+import com.jbeatda.DTO.requestDTO.CourseSelectionRequestDTO;
+import com.jbeatda.domain.stores.index.StoreSpatialIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AI 없이 규칙/점수로 코스 구성 (빠른 추천 모드, AI 장애·지연 시 대체 추천)
+ *  - 매장 점수: 스타일/조건 키워드 + 주변 후보 밀집도(CandidateRanker) + 현재 영업 중인지
+ *  - 가장 점수가 높은 매장에서 시작해서, 이미 고른 매장과 가깝고 대표 메뉴가 겹치지 않는 매장을 차례로 추가
+ *  - 결과는 AI 응답과 같은 형식(매장 번호)이라 이후 처리(매장 정보 채우기, 동선 계산)는 동일
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RuleBasedCourseEngine {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Pattern OPEN_HOURS = Pattern.compile("(\\d{1,2}):(\\d{2})\\s*[~\\-]\\s*(\\d{1,2}):(\\d{2})");
+
+    private static final double OPEN_WEIGHT = 1.5;
+    private static final double DISTANCE_WEIGHT = 2.0;
+    private static final double DUPLICATE_MENU_PENALTY = 1.0;
+
+    private final CandidateRanker candidateRanker;
+
+    // 기본 매장 수 (소요 시간이 "반나절"이면 +1, "하루"면 +2, 최대 5)
+    @Value("${course.recommend.rule.store-count:3}")
+    private int defaultStoreCount;
+
+    /**
+     * 후보 매장 중 코스 선택
+     * @param candidates 후보 매장 (결과의 매장 번호는 이 목록의 1부터 시작하는 순번)
+     */
+    public AiCoursePickDTO recommend(CourseSelectionRequestDTO requestDTO, List<StoreWithCoordinatesDTO> candidates) {
+        int size = candidates.size();
+        int count = Math.min(storeCount(requestDTO.getDuration()), size);
+
+        // 1. 매장 점수 (키워드 + 밀집도 + 영업 중)
+        double[] scores = candidateRanker.scores(requestDTO, candidates);
+        LocalTime now = LocalTime.now(ZONE);
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        boolean[] located = new boolean[size];
+        String[] mainMenus = new String[size];
+        for (int i = 0; i < size; i++) {
+            StoreWithCoordinatesDTO store = candidates.get(i);
+            scores[i] += OPEN_WEIGHT * openScore(store.getTime(), now);
+            try {
+                lats[i] = Double.parseDouble(store.getLatitude());
+                lngs[i] = Double.parseDouble(store.getLongitude());
+                located[i] = true;
+            } catch (NullPointerException | NumberFormatException e) {
+                located[i] = false;
+            }
+            mainMenus[i] = mainMenu(store.getMenu());
+        }
+
+        // 2. 점수가 가장 높은 매장부터, 가까운 매장 위주로 하나씩 추가
+        double radius = RouteOptimizer.TravelMode.from(requestDTO.getTransportation()) == RouteOptimizer.TravelMode.WALK
+                ? 1_500 : 5_000;
+        List<Integer> selected = new ArrayList<>(count);
+        Set<String> selectedMenus = new HashSet<>();
+        while (selected.size() < count) {
+            int best = -1;
+            double bestValue = -Double.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                if (selected.contains(i)) {
+                    continue;
+                }
+                double value = scores[i];
+                if (!selected.isEmpty()) {
+                    value -= DISTANCE_WEIGHT * distancePenalty(i, selected, lats, lngs, located, radius);
+                }
+                if (!mainMenus[i].isEmpty() && selectedMenus.contains(mainMenus[i])) {
+                    value -= DUPLICATE_MENU_PENALTY;
+                }
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = i;
+                }
+            }
+            selected.add(best);
+            selectedMenus.add(mainMenus[best]);
+        }
+
+        AiCoursePickDTO pick = new AiCoursePickDTO();
+        pick.setCourseName(courseName(requestDTO));
+        pick.setDescription(description(requestDTO, selected.stream().map(i -> mainMenus[i]).toList()));
+        pick.setPicks(selected.stream().map(i -> i + 1).toList());
+
+        log.info("규칙 기반 코스 구성 완료 - 후보: {}, 선택: {}", size, selected.size());
+        return pick;
+    }
+
+    /**
+     * 소요 시간 문자열 → 매장 수 (3 ~ 5)
+     */
+    private int storeCount(String duration) {
+        int count = defaultStoreCount;
+        if (duration != null) {
+            if (duration.contains("하루") || duration.contains("종일") || duration.contains("1일")) {
+                count += 2;
+            } else if (duration.contains("반나절")) {
+                count += 1;
+            }
+        }
+        return Math.max(1, Math.min(count, 5));
+    }
+
+    /**
+     * 영업시간("11:00~21:00" 형식) 기준 현재 영업 중이면 1, 아니면 0, 알 수 없으면 0.5
+     */
+    static double openScore(String time, LocalTime now) {
+        if (time == null) {
+            return 0.5;
+        }
+        Matcher matcher = OPEN_HOURS.matcher(time);
+        if (!matcher.find()) {
+            return 0.5;
+        }
+        int open = Integer.parseInt(matcher.group(1)) * 60 + Integer.parseInt(matcher.group(2));
+        int close = Integer.parseInt(matcher.group(3)) * 60 + Integer.parseInt(matcher.group(4));
+        int current = now.getHour() * 60 + now.getMinute();
+        if (open == close) {
+            return 1;
+        }
+        // 자정을 넘겨서 영업하는 경우 (예: 18:00~02:00)
+        boolean isOpen = open < close
+                ? current >= open && current < close
+                : current >= open || current < close;
+        return isOpen ? 1 : 0;
+    }
+
+    /**
+     * 이미 고른 매장 중 가장 가까운 매장까지 거리 / 기준 반경 (최대 1, 좌표가 없으면 1)
+     */
+    private double distancePenalty(int candidate, List<Integer> selected,
+                                   double[] lats, double[] lngs, boolean[] located, double radius) {
+        if (!located[candidate]) {
+            return 1;
+        }
+        double nearest = Double.MAX_VALUE;
+        for (int index : selected) {
+            if (located[index]) {
+                nearest = Math.min(nearest, StoreSpatialIndex.haversine(lats[candidate], lngs[candidate], lats[index], lngs[index]));
+            }
+        }
+        return nearest == Double.MAX_VALUE ? 1 : Math.min(1, nearest / radius);
+    }
+
+    private String mainMenu(String menu) {
+        if (menu == null || menu.isBlank()) {
+            return "";
+        }
+        return menu.split(",")[0].trim();
+    }
+
+    private String courseName(CourseSelectionRequestDTO requestDTO) {
+        String region = requestDTO.getRegions() != null && !requestDTO.getRegions().isEmpty()
+                ? requestDTO.getRegions().get(0) : "전북";
+        String style = requestDTO.getFoodStyles() != null && !requestDTO.getFoodStyles().isEmpty()
+                ? requestDTO.getFoodStyles().get(0) + " " : "";
+        return region + " " + style + "맛집 코스";
+    }
+
+    private String description(CourseSelectionRequestDTO requestDTO, List<String> menus) {
+        List<String> names = menus.stream().filter(menu -> !menu.isEmpty()).distinct().toList();
+        String menuText = names.isEmpty() ? "향토 음식" : String.join(", ", names);
+        String transportation = requestDTO.getTransportation() != null ? requestDTO.getTransportation() : "이동";
+        return menuText + "을(를) 맛볼 수 있는 매장을 " + transportation + " 동선이 짧도록 묶은 코스입니다.";
+    }
+}
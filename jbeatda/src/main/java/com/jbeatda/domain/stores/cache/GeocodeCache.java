@@ -0,0 +1,187 @@
+package com.jbeatda.domain.stores.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jbeatda.exception.ExternalApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 주소 → 좌표 변환 결과 캐시 (로컬 메모리 → Redis 2단계)
+ *  - 키: 정규화된 주소 (공백/대소문자/유니코드 표기 차이 제거)
+ *  - "주소를 찾을 수 없음" 결과도 짧은 TTL로 저장 (negative caching)
+ */
+@Component
+@Slf4j
+public class GeocodeCache {
+
+    private static final String KEY_PREFIX = "geocode:";
+    private static final String NOT_FOUND = "NOT_FOUND";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, String> localCache;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public GeocodeCache(RedisTemplate<String, String> redisTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${kakao.geocode-cache.local-max-size:10000}") long localMaxSize,
+                        @Value("${kakao.geocode-cache.ttl:30d}") Duration ttl,
+                        @Value("${kakao.geocode-cache.negative-ttl:6h}") Duration negativeTtl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+
+        // 찾을 수 없는 주소는 짧게, 정상 좌표는 길게 보관
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new Expiry<String, String>() {
+                    @Override
+                    public long expireAfterCreate(String key, String value, long currentTime) {
+                        return (NOT_FOUND.equals(value) ? negativeTtl : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, String value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, String value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "geocode.local");
+
+        this.localHitCounter = counter(meterRegistry, "local_hit");
+        this.redisHitCounter = counter(meterRegistry, "redis_hit");
+        this.missCounter = counter(meterRegistry, "miss");
+    }
+
+    /**
+     * 캐시 조회
+     * @return 캐시에 없으면 null, 있으면 좌표 또는 "찾을 수 없음" 결과
+     */
+    public CachedPoint get(String address) {
+        String key = normalize(address);
+        if (key.isEmpty()) {
+            return null;
+        }
+
+        // 1. 로컬 캐시
+        String value = localCache.getIfPresent(key);
+        if (value != null) {
+            localHitCounter.increment();
+            return decode(value);
+        }
+
+        // 2. Redis (장애 시 캐시 미스로 처리)
+        try {
+            value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        } catch (Exception e) {
+            log.warn("좌표 캐시(Redis) 조회 실패 - address: {}, {}", address, e.getMessage());
+        }
+        if (value != null) {
+            redisHitCounter.increment();
+            localCache.put(key, value);
+            return decode(value);
+        }
+
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * 좌표 저장
+     * @param coordinates [위도, 경도]
+     */
+    public void put(String address, List<String> coordinates) {
+        store(address, coordinates.get(0) + "," + coordinates.get(1), ttl);
+    }
+
+    /**
+     * "주소를 찾을 수 없음" 결과 저장
+     */
+    public void putNotFound(String address) {
+        store(address, NOT_FOUND, negativeTtl);
+    }
+
+    private void store(String address, String value, Duration expiry) {
+        String key = normalize(address);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        localCache.put(key, value);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, value, expiry);
+        } catch (Exception e) {
+            log.warn("좌표 캐시(Redis) 저장 실패 - address: {}, {}", address, e.getMessage());
+        }
+    }
+
+    /**
+     * 주소 정규화 (캐시 키용)
+     */
+    static String normalize(String address) {
+        if (address == null) {
+            return "";
+        }
+        return Normalizer.normalize(address, Normalizer.Form.NFKC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private CachedPoint decode(String value) {
+        if (NOT_FOUND.equals(value)) {
+            return new CachedPoint(null);
+        }
+        String[] parts = value.split(",", 2);
+        return new CachedPoint(List.of(parts[0], parts[1]));
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("geocode.cache.requests")
+                .description("주소 → 좌표 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 결과
+     * @param coordinates [위도, 경도], 주소를 찾을 수 없는 경우 null
+     */
+    public record CachedPoint(List<String> coordinates) {
+        public boolean isNotFound() {
+            return coordinates == null;
+        }
+
+        /**
+         * 좌표 반환, "찾을 수 없음" 결과면 예외
+         */
+        public List<String> orElseThrow() {
+            if (isNotFound()) {
+                throw new ExternalApiException("해당 주소를 찾을 수 없습니다.");
+            }
+            return coordinates;
+        }
+    }
+}
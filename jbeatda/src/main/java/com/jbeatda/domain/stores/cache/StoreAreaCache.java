@@ -0,0 +1,141 @@
+package com.jbeatda.domain.stores.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jbeatda.DTO.external.JbStoreListApiResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 지역별 매장 목록 캐시 (파싱된 목록을 로컬 메모리에 보관)
+ *  - 목록은 하루에 많아야 한 번 바뀌므로 지역 목록 조회 / 코스 추천마다 다시 받지 않음
+ *  - refresh-after 가 지난 목록은 그대로 응답하고 백그라운드에서 갱신 (stale-while-revalidate)
+ *  - 갱신 시 ETag / Last-Modified 를 보내 바뀌지 않았으면(304) 다시 파싱하지 않음
+ */
+@Component
+@Slf4j
+public class StoreAreaCache {
+
+    private final Cache<String, CachedArea> localCache;
+    private final Duration refreshAfter;
+    private final boolean staleWhileRevalidate;
+
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+    private final MeterRegistry meterRegistry;
+
+    public StoreAreaCache(MeterRegistry meterRegistry,
+                          @Value("${jb-store.area-cache.ttl:PT24H}") Duration ttl,
+                          @Value("${jb-store.area-cache.refresh-after:PT30M}") Duration refreshAfter,
+                          @Value("${jb-store.area-cache.stale-while-revalidate:true}") boolean staleWhileRevalidate) {
+        this.refreshAfter = refreshAfter;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.meterRegistry = meterRegistry;
+
+        // 지역 수(14개)만큼만 저장되므로 크기 제한은 여유 있게
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "jb-store.area");
+
+        this.hitCounter = counter("hit");
+        this.staleCounter = counter("stale");
+        this.missCounter = counter("miss");
+    }
+
+    /**
+     * 캐시 조회 (결과별 메트릭 기록)
+     * @return 캐시에 없으면 null
+     */
+    public CachedArea get(String area) {
+        CachedArea cached = localCache.getIfPresent(area);
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (isStale(cached)) {
+            staleCounter.increment();
+        } else {
+            hitCounter.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * 조건부 요청용 이전 응답 (메트릭 없이 조회)
+     */
+    public CachedArea peek(String area) {
+        return localCache.getIfPresent(area);
+    }
+
+    /**
+     * 새 목록 저장
+     */
+    public CachedArea put(String area, List<JbStoreListApiResponseDTO.StoreItem> items,
+                          String etag, String lastModified) {
+        CachedArea cached = new CachedArea(System.currentTimeMillis(), List.copyOf(items), etag, lastModified);
+        localCache.put(area, cached);
+        return cached;
+    }
+
+    /**
+     * 바뀌지 않음(304) 응답 - 기존 목록을 그대로 두고 갱신 시각만 다시 기록
+     */
+    public CachedArea touch(String area, CachedArea previous) {
+        CachedArea cached = new CachedArea(System.currentTimeMillis(), previous.items(),
+                previous.etag(), previous.lastModified());
+        localCache.put(area, cached);
+        return cached;
+    }
+
+    /**
+     * 지금 응답해도 되지만 백그라운드 갱신이 필요한 목록인지
+     */
+    public boolean isStale(CachedArea cached) {
+        return System.currentTimeMillis() - cached.fetchedAt() >= refreshAfter.toMillis();
+    }
+
+    public boolean isStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    /**
+     * 외부 API 갱신 소요 시간 기록
+     * @param result modified / not_modified / failed
+     */
+    public void recordRefresh(long startedAt, String result) {
+        Timer.builder("jb-store.area-cache.refresh")
+                .description("지역별 매장 목록 갱신 소요 시간")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("jb-store.area-cache.requests")
+                .description("지역별 매장 목록 캐시 조회 결과 (hit / stale / miss)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 지역 목록
+     * @param fetchedAt 마지막으로 외부 API 와 확인한 시각 (304 응답 포함)
+     * @param etag 응답 ETag (없으면 null)
+     * @param lastModified 응답 Last-Modified (없으면 null)
+     */
+    public record CachedArea(long fetchedAt, List<JbStoreListApiResponseDTO.StoreItem> items,
+                             String etag, String lastModified) {
+    }
+}
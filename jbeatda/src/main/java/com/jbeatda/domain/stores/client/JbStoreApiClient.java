@@ -1,32 +1,50 @@
 package com.jbeatda.domain.stores.client;
 
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.jbeatda.DTO.external.JbStoreDetailApiResponseDTO;
 import com.jbeatda.DTO.external.JbStoreListApiResponseDTO;
 import com.jbeatda.DTO.requestDTO.SearchStoreRequestDTO;
+import com.jbeatda.config.ExternalApiGuard;
+import com.jbeatda.domain.stores.cache.StoreAreaCache;
 import com.jbeatda.exception.ExternalApiException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -36,7 +54,18 @@ import java.util.function.Function;
 @Slf4j
 public class JbStoreApiClient {
 
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int SNIFF_LIMIT = 64;
+    private static final String AREA_LIST_API_NAME = "전북향토음식점 지역별 목록 API";
+
     private final RestTemplate restTemplate;
+    private final WebClient webClient;
+    private final ExternalApiGuard apiGuard;
+    private final StoreAreaCache areaCache;
+
+    // 지역코드 → 진행 중인 목록 조회 (같은 지역 동시 요청은 외부 API 1번만 호출)
+    private final Map<String, CompletableFuture<List<JbStoreListApiResponseDTO.StoreItem>>> areaLoads = new ConcurrentHashMap<>();
 
     @Value("${jb-store.api.base-url}")
     private String baseUrl;
@@ -50,22 +79,60 @@ public class JbStoreApiClient {
     @Value("${jb-store.api.endpoints.get-stores-Detail}")
     private String detailEndpoint;
 
-    public JbStoreApiClient(RestTemplate restTemplate) {
+    // 비동기 응답 본문 최대 크기 (넘으면 파싱하지 않고 실패)
+    @Value("${http-client.max-in-memory-size:4MB}")
+    private DataSize maxBodySize;
+
+    public JbStoreApiClient(@Qualifier("jbStoreRestTemplate") RestTemplate restTemplate,
+                            @Qualifier("jbStoreWebClient") WebClient webClient,
+                            @Qualifier("jbStoreApiGuard") ExternalApiGuard apiGuard,
+                            StoreAreaCache areaCache) {
         this.restTemplate = restTemplate;
+        this.webClient = webClient;
+        this.apiGuard = apiGuard;
+        this.areaCache = areaCache;
     }
 
     /**
-     * 전북향토음식점서비스 - 지역별 목록조회
+     * 전북향토음식점서비스 - 지역별 목록조회 (캐시 우선)
      * @param area 지역명 (예: "01")
      * @return 해당 지역의 매장 목록
      */
     public List<JbStoreListApiResponseDTO.StoreItem> jbStoreAreaList(String area) {
-        return callApiAndParseResponse(
-                listEndpoint,
-                Map.of("Area", area, "_type", "json"),
-                "전북향토음식점 지역별 목록 API",
-                this::parseStoreListXml
-        );
+        return await(jbStoreAreaListAsync(area), AREA_LIST_API_NAME);
+    }
+
+    /**
+     * 전북향토음식점서비스 - 지역별 목록조회 (비동기, 캐시 우선)
+     *  - 갱신 시점이 지난 목록은 바로 응답하고 백그라운드에서 갱신
+     * @param area 지역명 (예: "01")
+     * @return 해당 지역의 매장 목록, 실패 시 ExternalApiException 으로 완료
+     */
+    public CompletableFuture<List<JbStoreListApiResponseDTO.StoreItem>> jbStoreAreaListAsync(String area) {
+        StoreAreaCache.CachedArea cached = areaCache.get(area);
+        if (cached == null) {
+            return loadAreaList(area);
+        }
+        if (!areaCache.isStale(cached)) {
+            return CompletableFuture.completedFuture(cached.items());
+        }
+        if (!areaCache.isStaleWhileRevalidate()) {
+            return loadAreaList(area);
+        }
+
+        loadAreaList(area).exceptionally(e -> {
+            log.warn("지역 매장 목록 백그라운드 갱신 실패 - area: {}, {}", area, e.getMessage());
+            return null;
+        });
+        return CompletableFuture.completedFuture(cached.items());
+    }
+
+    /**
+     * 전북향토음식점서비스 - 지역별 목록조회 (캐시를 쓰지 않고 외부 API 와 확인)
+     *  - 매장 동기화처럼 최신 목록이 필요한 경우 (바뀌지 않았으면 304 응답으로 캐시 목록 사용)
+     */
+    public List<JbStoreListApiResponseDTO.StoreItem> jbStoreAreaListRevalidated(String area) {
+        return await(loadAreaList(area), AREA_LIST_API_NAME);
     }
 
     /**
@@ -80,7 +147,7 @@ public class JbStoreApiClient {
                 listEndpoint,
                 queryParams,
                 "전북향토음식점 검색 목록 API",
-                this::parseStoreListXml
+                this::parseStoreList
         );
     }
 
@@ -94,12 +161,26 @@ public class JbStoreApiClient {
                 detailEndpoint,
                 Map.of("SNO", sno, "_type", "json"),
                 "전북향토음식점 상세 API",
-                this::parseStoreDetailXml
+                this::parseStoreDetail
         );
 
         return results.isEmpty() ? null : results.get(0);
     }
 
+    /**
+     * 전북향토음식점서비스 - 상세조회 (비동기)
+     * @param sno 매장 일련번호
+     * @return 매장 상세 정보 (없으면 null), 실패 시 ExternalApiException 으로 완료
+     */
+    public CompletableFuture<JbStoreDetailApiResponseDTO.StoreDetail> jbStoreDetailAsync(String sno) {
+        return callApiAsync(
+                detailEndpoint,
+                Map.of("SNO", sno, "_type", "json"),
+                "전북향토음식점 상세 API",
+                this::parseStoreDetail
+        ).thenApply(results -> results.isEmpty() ? null : results.get(0));
+    }
+
     /**
      * SearchStoreRequestDTO를 쿼리 파라미터 Map으로 변환
      */
@@ -122,27 +203,23 @@ public class JbStoreApiClient {
 
     /**
      * 공통 API 호출 및 파싱 로직
+     *  - 응답 body를 문자열로 모으지 않고 스트림 그대로 파서에 전달
      */
     private <T> T callApiAndParseResponse(
             String endpoint,
             Map<String, String> queryParams,
             String apiName,
-            Function<String, T> xmlParser) {
+            Function<InputStream, T> responseParser) {
         try {
             // 1. API URL 생성
             String url = buildApiUrl(endpoint, queryParams);
             log.info("{} 호출 시작 - params: {}", apiName, queryParams);
 
-            // 2. API request 보내기
-            ResponseEntity<String> responseEntity = restTemplate.exchange(
-                    url, HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class);
-
-            // 3. 성공적으로 받아왔으면, body 부분 가져오기
-            String xmlResponse = responseEntity.getBody();
-            log.info("XML 응답 받음 - 길이: {}", xmlResponse != null ? xmlResponse.length() : 0);
-
-            // 4. XML 파싱
-            T result = xmlParser.apply(xmlResponse);
+            // 2. API request 보내고 응답 스트림을 바로 파싱 (JSON 우선, XML 응답이면 XML로)
+            //    서킷 브레이커 / 동시 호출 제한 / 네트워크·5xx 오류 재시도 적용
+            T result = apiGuard.get(() -> restTemplate.execute(url, HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML)),
+                    response -> responseParser.apply(response.getBody())));
             log.info("{} 호출 완료", apiName);
 
             return result;
@@ -164,6 +241,186 @@ public class JbStoreApiClient {
         }
     }
 
+    /**
+     * 공통 API 비동기 호출 및 파싱 로직
+     *  - 응답을 기다리는 동안 스레드를 점유하지 않음, 파싱은 응답 본문을 다 받은 뒤 한 번에 (parseBody)
+     */
+    private <T> CompletableFuture<T> callApiAsync(
+            String endpoint,
+            Map<String, String> queryParams,
+            String apiName,
+            Function<InputStream, T> responseParser) {
+        String url = buildApiUrl(endpoint, queryParams);
+        log.info("{} 비동기 호출 시작 - params: {}", apiName, queryParams);
+
+        return apiGuard.getAsync(() -> webClient.get()
+                        .uri(url)
+                        .accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class)
+                        .as(body -> parseBody(body, responseParser))
+                        .toFuture())
+                .handle((result, error) -> {
+                    if (error != null) {
+                        throw toExternalApiException(ExternalApiGuard.unwrap(error), apiName, queryParams);
+                    }
+                    log.info("{} 비동기 호출 완료", apiName);
+                    return result;
+                });
+    }
+
+    /**
+     * 지역 목록 조회 (진행 중인 같은 지역 조회가 있으면 그 결과를 같이 사용)
+     *  - 호출한 쪽마다 복사본을 반환 (한 쪽이 시간 초과로 취소해도 같이 기다리는 쪽은 영향 없음)
+     */
+    private CompletableFuture<List<JbStoreListApiResponseDTO.StoreItem>> loadAreaList(String area) {
+        CompletableFuture<List<JbStoreListApiResponseDTO.StoreItem>> created = new CompletableFuture<>();
+        CompletableFuture<List<JbStoreListApiResponseDTO.StoreItem>> running = areaLoads.putIfAbsent(area, created);
+        if (running != null) {
+            return running.copy();
+        }
+
+        CompletableFuture<List<JbStoreListApiResponseDTO.StoreItem>> fetch;
+        try {
+            fetch = fetchAreaList(area);
+        } catch (RuntimeException e) {
+            fetch = CompletableFuture.failedFuture(e);
+        }
+        fetch.whenComplete((items, error) -> {
+            areaLoads.remove(area, created);
+            if (error != null) {
+                created.completeExceptionally(ExternalApiGuard.unwrap(error));
+            } else {
+                created.complete(items);
+            }
+        });
+        return created.copy();
+    }
+
+    /**
+     * 지역 목록 조건부 요청 (이전 응답의 ETag / Last-Modified 전송)
+     *  - 304 응답이면 캐시 목록을 그대로 사용, 새 목록이면 파싱해서 캐시에 저장
+     *  - 빈 목록(파싱 실패 등)은 캐시하지 않음
+     */
+    private CompletableFuture<List<JbStoreListApiResponseDTO.StoreItem>> fetchAreaList(String area) {
+        Map<String, String> queryParams = Map.of("Area", area, "_type", "json");
+        String apiName = AREA_LIST_API_NAME;
+        StoreAreaCache.CachedArea previous = areaCache.peek(area);
+        String url = buildApiUrl(listEndpoint, queryParams);
+        long startedAt = System.nanoTime();
+        log.info("{} 비동기 호출 시작 - params: {}, 조건부: {}", apiName, queryParams, previous != null);
+
+        return apiGuard.getAsync(() -> webClient.get()
+                        .uri(url)
+                        .accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML)
+                        .headers(headers -> {
+                            if (previous != null && previous.etag() != null) {
+                                headers.setIfNoneMatch(previous.etag());
+                            }
+                            if (previous != null && previous.lastModified() != null) {
+                                headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+                            }
+                        })
+                        .exchangeToMono(response -> {
+                            if (response.statusCode().value() == 304) {
+                                return response.releaseBody().then(Mono.just(AreaListResponse.NOT_MODIFIED));
+                            }
+                            if (response.statusCode().isError()) {
+                                return response.<AreaListResponse>createError();
+                            }
+                            HttpHeaders headers = response.headers().asHttpHeaders();
+                            String etag = headers.getETag();
+                            String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+                            return parseBody(response.bodyToFlux(DataBuffer.class), this::parseStoreList)
+                                    .map(items -> new AreaListResponse(items, etag, lastModified));
+                        })
+                        .toFuture())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        areaCache.recordRefresh(startedAt, "failed");
+                        throw toExternalApiException(ExternalApiGuard.unwrap(error), apiName, queryParams);
+                    }
+
+                    if (response.items() == null) {
+                        areaCache.recordRefresh(startedAt, "not_modified");
+                        if (previous == null) {
+                            log.error("{} 조건 없이 보낸 요청에 304 응답 - params: {}", apiName, queryParams);
+                            throw new ExternalApiException("맛집 정보 조회 중 오류가 발생했습니다.");
+                        }
+                        log.info("{} 변경 없음(304) - params: {}", apiName, queryParams);
+                        return areaCache.touch(area, previous).items();
+                    }
+
+                    areaCache.recordRefresh(startedAt, "modified");
+                    if (!response.items().isEmpty()) {
+                        areaCache.put(area, response.items(), response.etag(), response.lastModified());
+                    }
+                    log.info("{} 비동기 호출 완료 - 매장 수: {}", apiName, response.items().size());
+                    return response.items();
+                });
+    }
+
+    /**
+     * 비동기 응답 본문 파싱
+     *  - 받은 버퍼 조각을 byte[] 로 복사하지 않고 이어 붙인 버퍼를 스트림으로 바로 파서에 전달 (파서는 동기 호출과 같은 스트리밍 파서)
+     *  - 본문 전체는 받은 버퍼 그대로 메모리에 있으므로 maxBodySize 로 제한 (동기 호출은 소켓에서 바로 읽음)
+     */
+    private <T> Mono<T> parseBody(Flux<DataBuffer> body, Function<InputStream, T> responseParser) {
+        return DataBufferUtils.join(body, (int) maxBodySize.toBytes())
+                .map(buffer -> {
+                    try (InputStream in = buffer.asInputStream(true)) {
+                        return responseParser.apply(in);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> responseParser.apply(InputStream.nullInputStream())));
+    }
+
+    /**
+     * 비동기 조회 결과 대기 (동기 메서드용, 실패는 ExternalApiException 그대로 전달)
+     * @param apiName 로그용 API 이름
+     */
+    private <T> T await(CompletableFuture<T> future, String apiName) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = ExternalApiGuard.unwrap(e);
+            if (cause instanceof ExternalApiException externalApiException) {
+                throw externalApiException;
+            }
+            log.error("예상치 못한 오류 발생 - {}", apiName, cause);
+            throw new ExternalApiException("맛집 정보 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 지역 목록 응답 (items 가 null 이면 304 Not Modified)
+     */
+    private record AreaListResponse(List<JbStoreListApiResponseDTO.StoreItem> items, String etag, String lastModified) {
+        private static final AreaListResponse NOT_MODIFIED = new AreaListResponse(null, null, null);
+    }
+
+    /**
+     * 비동기 호출 예외 → ExternalApiException (동기 호출과 같은 메시지)
+     */
+    private ExternalApiException toExternalApiException(Throwable e, String apiName, Map<String, String> queryParams) {
+        if (e instanceof ExternalApiException externalApiException) {
+            return externalApiException;
+
+        } else if (e instanceof WebClientRequestException) {
+            log.error("API 타임아웃 또는 네트워크 오류 - {}, params: {}", apiName, queryParams, e);
+            return new ExternalApiException("네트워크 오류로 맛집 정보를 가져올 수 없습니다.");
+
+        } else if (e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError()) {
+            log.error("API 서버 오류 - {}, status: {}, params: {}", apiName, response.getStatusCode(), queryParams, e);
+            return new ExternalApiException("외부 서비스에 일시적인 문제가 발생했습니다.");
+        }
+
+        log.error("예상치 못한 오류 발생 - {}, params: {}", apiName, queryParams, e);
+        return new ExternalApiException("맛집 정보 조회 중 오류가 발생했습니다.");
+    }
+
     /**
      * API URL 생성 (공통)
      */
@@ -181,10 +438,11 @@ public class JbStoreApiClient {
     }
 
     /**
-     * 매장 목록 XML 파싱
+     * 매장 목록 파싱 (JSON / XML)
+     *  - 파서 벤치마크(src/jmh)에서 직접 호출하므로 package-private
      */
-    private List<JbStoreListApiResponseDTO.StoreItem> parseStoreListXml(String xmlResponse) {
-        return parseXmlResponse(xmlResponse, "item", item ->
+    List<JbStoreListApiResponseDTO.StoreItem> parseStoreList(InputStream response) {
+        return parseResponse(response, "item", item ->
                 JbStoreListApiResponseDTO.StoreItem.builder()
                         .img(getTextContent(item, "IMG"))
                         .area(getTextContent(item, "AREA"))
@@ -203,10 +461,10 @@ public class JbStoreApiClient {
     }
 
     /**
-     * 매장 상세 XML 파싱
+     * 매장 상세 파싱 (JSON / XML)
      */
-    private List<JbStoreDetailApiResponseDTO.StoreDetail> parseStoreDetailXml(String xmlResponse) {
-        return parseXmlResponse(xmlResponse, "item", item ->
+    private List<JbStoreDetailApiResponseDTO.StoreDetail> parseStoreDetail(InputStream response) {
+        return parseResponse(response, "item", item ->
                 JbStoreDetailApiResponseDTO.StoreDetail.builder()
                         .sno(getTextContent(item, "SNO"))
                         .name(getTextContent(item, "NAME"))
@@ -226,54 +484,196 @@ public class JbStoreApiClient {
                         .cktype(getTextContent(item, "CKTYPE"))
                         .food(getTextContent(item, "FOOD"))
                         .smenu(getTextContent(item, "SMENU"))
+                        .fLatitude(getTextContent(item, "F_LATITUDE"))
+                        .fLongitude(getTextContent(item, "F_LONGITUDE"))
                         .build()
         );
     }
 
     /**
-     * 공통 XML 파싱 로직
+     * 응답 형식 판별 후 파싱
+     *  - _type=json 요청에도 XML이 오는 경우가 있어서 본문 첫 글자로 판단
      */
-    private <T> List<T> parseXmlResponse(String xmlResponse, String itemTagName, Function<Element, T> itemMapper) {
-        List<T> items = new ArrayList<>();
+    private <T> List<T> parseResponse(InputStream response, String itemTagName, Function<Map<String, String>, T> itemMapper) {
+        if (response == null) {
+            return new ArrayList<>();
+        }
 
-        try {
-            // 1. XML 파서 팩토리 생성
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        InputStream body = new BufferedInputStream(response);
+        if (isJsonBody(body)) {
+            return parseJsonResponse(body, itemTagName, itemMapper);
+        }
+        log.info("JSON이 아닌 응답 - XML로 파싱");
+        return parseXmlResponse(body, itemTagName, itemMapper);
+    }
 
-            // 2. 실제 XML 파서(DocumentBuilder) 생성
-            DocumentBuilder builder = factory.newDocumentBuilder();
+    /**
+     * 본문이 JSON인지 확인 (공백/BOM 건너뛰고 첫 글자가 '{' 또는 '[')
+     */
+    private boolean isJsonBody(InputStream body) {
+        try {
+            body.mark(SNIFF_LIMIT);
+            int c = -1;
+            for (int i = 0; i < SNIFF_LIMIT; i++) {
+                c = body.read();
+                if (c == -1 || !(Character.isWhitespace(c) || c == 0xEF || c == 0xBB || c == 0xBF)) {
+                    break;
+                }
+            }
+            body.reset();
+            return c == '{' || c == '[';
 
-            // 3. XML 문자열을 Document 객체로 변환
-            Document doc = builder.parse(new ByteArrayInputStream(xmlResponse.getBytes()));
+        } catch (IOException e) {
+            log.warn("응답 형식 확인 실패 - XML로 처리", e);
+            return false;
+        }
+    }
 
-            // 4. 특정 태그명을 가진 모든 요소 찾기
-            NodeList itemNodes = doc.getElementsByTagName(itemTagName);
-            log.info("XML에서 찾은 {} 개수: {}", itemTagName, itemNodes.getLength());
+    /**
+     * 공통 JSON 파싱 로직 (Jackson 스트리밍, 1회 순회)
+     *  - "item" 필드의 객체(또는 객체 배열)를 태그명 → 값 Map으로 모아서 itemMapper로 변환
+     *  - 본문이 잘렸거나 형식이 깨졌으면 ExternalApiException (일부 항목만 반환하지 않음)
+     */
+    private <T> List<T> parseJsonResponse(InputStream jsonResponse, String itemFieldName, Function<Map<String, String>, T> itemMapper) {
+        List<T> items = new ArrayList<>();
 
-            // 5. 각 요소를 순회하면서 객체로 변환
-            for (int i = 0; i < itemNodes.getLength(); i++) {
-                Element item = (Element) itemNodes.item(i);
-                T mappedItem = itemMapper.apply(item);
-                items.add(mappedItem);
+        try (JsonParser parser = JSON_FACTORY.createParser(jsonResponse)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.FIELD_NAME || !itemFieldName.equals(parser.getCurrentName())) {
+                    continue;
+                }
+
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_ARRAY) {
+                    // 여러 건: "item": [{...}, {...}]
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        items.add(itemMapper.apply(readJsonFields(parser)));
+                    }
+                } else if (value == JsonToken.START_OBJECT) {
+                    // 1건: "item": {...}
+                    items.add(itemMapper.apply(readJsonFields(parser)));
+                }
             }
+            log.info("JSON에서 찾은 {} 개수: {}", itemFieldName, items.size());
 
         } catch (Exception e) {
-            log.error("XML 파싱 실패", e);
+            // 중간까지 읽은 항목만 돌려주면 잘린 목록이 캐시/동기화에 정상 결과로 남으므로 전체 실패 처리
+            log.error("JSON 파싱 실패 - 읽은 {} 개수: {}", itemFieldName, items.size(), e);
+            throw new ExternalApiException("맛집 정보 응답을 해석할 수 없습니다.");
         }
 
         return items;
     }
 
     /**
-     * XML 요소에서 텍스트 내용 추출 (공통)
+     * JSON 객체 1개의 단일 값 필드만 읽기 (하위 객체/배열은 건너뜀)
      */
-    private String getTextContent(Element parent, String tagName) {
-        NodeList nodeList = parent.getElementsByTagName(tagName);
-        if (nodeList.getLength() > 0) {
-            String content = nodeList.item(0).getTextContent();
-            return content != null ? content.trim() : "";
+    private Map<String, String> readJsonFields(JsonParser parser) throws IOException {
+        Map<String, String> fields = new HashMap<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if (value.isStructStart()) {
+                parser.skipChildren();
+            } else if (value != JsonToken.VALUE_NULL) {
+                fields.put(name, parser.getText().trim());
+            }
         }
-        return "";
+        return fields;
+    }
+
+    /**
+     * 공통 XML 파싱 로직 (StAX 스트리밍, 1회 순회)
+     *  - <item> 바로 아래 태그들의 텍스트를 모아서 itemMapper로 변환
+     *  - 본문이 잘렸거나 형식이 깨졌으면 ExternalApiException (일부 항목만 반환하지 않음)
+     */
+    private <T> List<T> parseXmlResponse(InputStream xmlResponse, String itemTagName, Function<Map<String, String>, T> itemMapper) {
+        List<T> items = new ArrayList<>();
+
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(xmlResponse);
+
+            Map<String, String> fields = null;   // 현재 읽고 있는 <item>의 태그명 → 값
+            String currentField = null;          // 현재 읽고 있는 <item> 하위 태그명
+            StringBuilder text = new StringBuilder();
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        String name = reader.getLocalName();
+                        if (fields == null) {
+                            if (itemTagName.equals(name)) {
+                                fields = new HashMap<>();
+                            }
+                        } else if (currentField == null) {
+                            currentField = name;
+                            text.setLength(0);
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                        if (currentField != null) {
+                            text.append(reader.getText());
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if (fields == null) {
+                            break;
+                        }
+                        String name = reader.getLocalName();
+                        if (currentField != null) {
+                            if (currentField.equals(name)) {
+                                fields.putIfAbsent(name, text.toString().trim());
+                                currentField = null;
+                            }
+                        } else if (itemTagName.equals(name)) {
+                            items.add(itemMapper.apply(fields));
+                            fields = null;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            log.info("XML에서 찾은 {} 개수: {}", itemTagName, items.size());
+
+        } catch (Exception e) {
+            // JSON 과 같이 일부만 읽힌 목록은 사용하지 않음
+            log.error("XML 파싱 실패 - 읽은 {} 개수: {}", itemTagName, items.size(), e);
+            throw new ExternalApiException("맛집 정보 응답을 해석할 수 없습니다.");
+
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    log.debug("XML 리더 종료 실패", e);
+                }
+            }
+        }
+
+        return items;
+    }
+
+    /**
+     * <item> 하위 태그(JSON 필드) 값 추출 (공통, 없으면 빈 문자열)
+     */
+    private String getTextContent(Map<String, String> item, String tagName) {
+        return item.getOrDefault(tagName, "");
+    }
+
+    /**
+     * StAX 팩토리 (스레드 안전, 1회 생성)
+     *  - 외부 엔티티/DTD 비활성화 (XXE 방지)
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
     }
 
     /**
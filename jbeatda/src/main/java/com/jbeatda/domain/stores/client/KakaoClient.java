@@ -2,6 +2,8 @@ package com.jbeatda.domain.stores.client;
 
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.jbeatda.config.ExternalApiGuard;
+import com.jbeatda.domain.stores.cache.GeocodeCache;
 import com.jbeatda.exception.ExternalApiException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,11 +16,15 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 
@@ -31,20 +37,45 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class KakaoClient {
 
     private final RestTemplate restTemplate;
+    private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final GeocodeCache geocodeCache;
+    private final ExternalApiGuard apiGuard;
 
     @Value("${kakao.api.rest-key}")
     private String restApiKey;
 
 
-    public KakaoClient(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    public KakaoClient(@Qualifier("kakaoRestTemplate") RestTemplate restTemplate, @Qualifier("kakaoWebClient") WebClient webClient,
+                       ObjectMapper objectMapper, GeocodeCache geocodeCache,
+                       @Qualifier("kakaoApiGuard") ExternalApiGuard apiGuard) {
         this.restTemplate = restTemplate;
+        this.webClient = webClient;
         this.objectMapper = objectMapper;
+        this.geocodeCache = geocodeCache;
+        this.apiGuard = apiGuard;
     }
 
 
+    /**
+     * 주소 → 좌표 변환 [위도, 경도]
+     */
     public List<String> getPoint(String address){
 
+        // 캐시 조회 (로컬 → Redis), 있으면 API 호출 생략
+        GeocodeCache.CachedPoint cached = geocodeCache.get(address);
+        if (cached != null) {
+            return cached.orElseThrow();
+        }
+
+        return requestPoint(address);
+    }
+
+    /**
+     * 캐시를 거치지 않고 카카오 API로 좌표 변환 (결과는 캐시에 저장)
+     */
+    public List<String> requestPoint(String address){
+
         try{
             // 1. API URL 생성
             String url = buildApiUrl(address);
@@ -54,22 +85,19 @@ public class KakaoClient {
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", "KakaoAK " + restApiKey);
 
-            // 3. API 호출
+            // 3. API 호출 (서킷 브레이커 / 동시 호출 제한 / 네트워크·5xx 오류 재시도)
             HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, String.class);
+            ResponseEntity<String> response = apiGuard.get(() -> restTemplate.exchange(
+                    url, HttpMethod.GET, entity, String.class));
 
-            // 4. JSON 응답 파싱
-            String jsonResponse = response.getBody();
+            // 4 ~ 6. JSON 응답 파싱 → 좌표 추출 → 캐시 저장
             log.info("카카오 API 응답 받음");
+            return toPoint(address, response.getBody());
 
-            // 5. 좌표 추출
-            List<String> coordinates = parseCoordinates(jsonResponse);
-            log.info("좌표 변환 완료 - address: {}, coordinates: {}", address, coordinates);
-
-            return coordinates;
+        } catch (ExternalApiException e) {
+            throw e;
 
-        }catch (ResourceAccessException e) {
+        } catch (ResourceAccessException e) {
             log.error("카카오 API 타임아웃 또는 네트워크 오류 - address: {}", address, e);
             throw new ExternalApiException("네트워크 오류로 좌표 변환을 할 수 없습니다.");
 
@@ -92,6 +120,80 @@ public class KakaoClient {
         }
     }
 
+    /**
+     * 주소 → 좌표 변환 [위도, 경도] (비동기)
+     *  - 캐시에 있으면 바로 완료, 없으면 카카오 API 호출 (응답을 기다리는 동안 스레드 점유 없음)
+     * @return 실패(주소 없음 포함) 시 ExternalApiException 으로 완료
+     */
+    public CompletableFuture<List<String>> getPointAsync(String address) {
+        GeocodeCache.CachedPoint cached = geocodeCache.get(address);
+        if (cached != null) {
+            try {
+                return CompletableFuture.completedFuture(cached.orElseThrow());
+            } catch (ExternalApiException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        String url = buildApiUrl(address);
+        log.info("카카오 좌표변환 API 비동기 호출 시작 - address: {}", address);
+
+        return apiGuard.getAsync(() -> webClient.get()
+                        .uri(url)
+                        .header("Authorization", "KakaoAK " + restApiKey)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .toFuture())
+                .handle((jsonResponse, error) -> {
+                    if (error != null) {
+                        throw toExternalApiException(ExternalApiGuard.unwrap(error), address);
+                    }
+                    return toPoint(address, jsonResponse);
+                });
+    }
+
+    /**
+     * 응답에서 좌표 추출 후 캐시 저장 (검색 결과가 없으면 "주소 없음"으로 캐시하고 예외)
+     */
+    private List<String> toPoint(String address, String jsonResponse) {
+        List<String> coordinates = parseCoordinates(jsonResponse);
+        if (coordinates == null) {
+            geocodeCache.putNotFound(address);
+            throw new ExternalApiException("해당 주소를 찾을 수 없습니다.");
+        }
+        log.info("좌표 변환 완료 - address: {}, coordinates: {}", address, coordinates);
+
+        geocodeCache.put(address, coordinates);
+        return coordinates;
+    }
+
+    /**
+     * 비동기 호출 예외 → ExternalApiException (동기 호출과 같은 메시지)
+     */
+    private ExternalApiException toExternalApiException(Throwable e, String address) {
+        if (e instanceof ExternalApiException externalApiException) {
+            return externalApiException;
+
+        } else if (e instanceof WebClientRequestException) {
+            log.error("카카오 API 타임아웃 또는 네트워크 오류 - address: {}", address, e);
+            return new ExternalApiException("네트워크 오류로 좌표 변환을 할 수 없습니다.");
+
+        } else if (e instanceof WebClientResponseException response) {
+            log.error("카카오 API 오류 - address: {}, status: {}", address, response.getStatusCode(), e);
+            if (response.getStatusCode().value() == 401) {
+                return new ExternalApiException("카카오 API 인증에 실패했습니다.");
+            } else if (response.getStatusCode().value() == 400) {
+                return new ExternalApiException("잘못된 주소 형식입니다.");
+            } else if (response.getStatusCode().is5xxServerError()) {
+                return new ExternalApiException("카카오 서비스에 일시적인 문제가 발생했습니다.");
+            }
+            return new ExternalApiException("주소 검색 중 오류가 발생했습니다.");
+        }
+
+        log.error("예상치 못한 오류 발생 - address: {}", address, e);
+        return new ExternalApiException("좌표 변환 중 오류가 발생했습니다.");
+    }
+
     /**
      * API URL 생성 (공통)
      */
@@ -107,7 +209,7 @@ public class KakaoClient {
         return url;
     }
     /**
-     *  JSON 응답에서 좌표 추출
+     *  JSON 응답에서 좌표 추출 (검색 결과가 없으면 null)
      */
     private List<String> parseCoordinates(String jsonResponse) {
         try {
@@ -117,7 +219,7 @@ public class KakaoClient {
             // 검색 결과가 없는 경우
             if (documents == null || documents.size() == 0) {
                 log.warn("주소 검색 결과가 없습니다");
-                throw new ExternalApiException("해당 주소를 찾을 수 없습니다.");
+                return null;
             }
 
             // 첫 번째 검색 결과의 좌표 추출 (documents 배열의 최상위 레벨에서)
@@ -128,7 +230,7 @@ public class KakaoClient {
             String longitude = firstResult.get("x").asText(); // 경도
 
             log.info("좌표 추출 완료 - latitude: {}, longitude: {}", latitude, longitude);
-            return Arrays.asList(latitude, longitude);
+            return List.of(latitude, longitude);
 
         } catch (Exception e) {
             log.error("JSON 파싱 실패: {}", jsonResponse, e);
@@ -113,6 +113,69 @@ public class StoreController {
 
 
 
+    @Operation(summary = "식당명 자동완성", description = "입력 중인 키워드로 식당명을 추천합니다.")
+    @GetMapping("/autocomplete")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    value = "{ \"suggestions\": [ { \"sno\": \"1129\", \"storeName\": \"우진갯벌풍천장어\", \"area\": \"고창군\", \"smenu\": \"풍천장어구이\" }, { \"sno\": \"869\", \"storeName\": \"초원풍천장어\", \"area\": \"고창군\", \"smenu\": \"장어구이(소금/양념), 더덕무침\" } ] }"
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<?> autocompleteStore(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String area,
+            @RequestParam(defaultValue = "10") int limit
+    ){
+        ApiResult result = storeService.autocompleteStore(keyword, area, limit);
+
+        return ResponseEntity.ok(result);
+    }
+
+
+
+
+
+    @Operation(summary = "주변 식당 조회", description = "현재 위치에서 반경(미터) 안의 식당을 가까운 순으로 조회합니다.")
+    @GetMapping("/nearby")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    value = "{ \"stores\": [ { \"sno\": \"444\", \"storeName\": \"그린회관\", \"storeImage\": \"http://jbfood.go.kr/datafloder/foodimg/f80393.jpg\", \"area\": \"김제시\", \"address\": \"전북 김제시 금산면 모악로 470\", \"smenu\": \"한정식, 오리주물럭, 산채비빔밥\", \"tel\": \"063-548-4090\", \"lat\": \"35.7182605138428\", \"lng\": \"127.041805724665\", \"distance\": 412 } ], \"totalCount\": 1 }"
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<?> getNearbyStores(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "1000") double radius,
+            @RequestParam(defaultValue = "20") int limit
+    ){
+        ApiResult result = storeService.getNearbyStores(lat, lng, radius, limit);
+
+        // 응답 결과가 에러인 경우 처리 (ApiResponseDTO 타입으로 캐스팅 가능한 경우)
+        if (result instanceof ApiResponseDTO<?> errorResult) {
+            String code = errorResult.getCode(); //에러 코드 추출
+            HttpStatus status = ApiResponseCode.fromCode(code).getHttpStatus(); //코드에 맞는 http 상태 가져오기
+            //에러 응답 반환
+            return ResponseEntity.status(status).body(errorResult);
+        }
+
+        return ResponseEntity.ok(result);
+    }
+
+
+
+
+
     @Operation(summary = "특정 식당 상세 정보 조회", description = "특정 지역의 상세 정보를 조회합니다.")
     @GetMapping("/detail/{sno}")
     @ApiResponses(value = {
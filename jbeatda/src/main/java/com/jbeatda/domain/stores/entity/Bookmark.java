@@ -13,6 +13,9 @@ import java.time.LocalDateTime;
 @Table(name = "bookmark",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"user_id", "store_id"})
+        },
+        indexes = {
+                @Index(name = "idx_bookmark_user_created", columnList = "user_id, created_at")
         })
 @Setter
 @Getter
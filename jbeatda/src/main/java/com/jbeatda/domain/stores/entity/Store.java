@@ -1,6 +1,7 @@
 package com.jbeatda.domain.stores.entity;
 
 import com.jbeatda.DTO.external.JbStoreDetailApiResponseDTO;
+import com.jbeatda.DTO.external.JbStoreListApiResponseDTO;
 import com.jbeatda.DTO.requestDTO.CreateCourseRequestDTO;
 import com.jbeatda.DTO.responseDTO.StoreDetailResponseDTO;
 import com.jbeatda.domain.courses.entity.CourseStore;
@@ -12,7 +13,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "store")
+@Table(name = "store",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_store_sno", columnNames = {"sno"})
+        },
+        indexes = {
+                @Index(name = "idx_store_area_code", columnList = "area_code, store_id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -48,7 +55,7 @@ public class Store {
     private String holiday;
 
     @Column(name = "sno")
-    private String sno;
+    private String sno; // 공공 API 매장 일련번호 (매장당 1행, uk_store_sno)
 
     @Column(name = "tel")
     private String tel;
@@ -65,6 +72,15 @@ public class Store {
     @Column(name = "lng")
     private String lng; // 경도
 
+    @Column(name = "area_code", length = 2)
+    private String areaCode; // 지역코드 ("01" ~ "14"), 목록 동기화로 들어온 매장만
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 목록 API 데이터 해시 (변경 감지용)
+
+    @Column(name = "detail_loaded")
+    private Boolean detailLoaded; // 상세 API 정보(좌석/주차/휴무일) 반영 여부, null은 기존 데이터(상세 API로 생성)
+
     // 연관관계
     @Builder.Default
     @OneToMany(mappedBy = "store", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -100,9 +116,71 @@ public class Store {
                 .seat(Integer.parseInt(storeDetail.getSeat())) // API 데이터 사용
                 .lat(coordinates.get(0))                                 // 클라이언트 좌표 우선
                 .lng(coordinates.get(1))                           // 클라이언트 좌표 우선
+                .detailLoaded(true)
                 .build();
     }
 
+    /**
+     * 목록 API 데이터로 Store 생성 (미러 동기화용, 상세 정보는 비어 있음)
+     */
+    public static Store fromStoreItem(String areaCode, JbStoreListApiResponseDTO.StoreItem storeItem,
+                                      String contentHash, List<String> coordinates) {
+        Store store = Store.builder().build();
+        store.applyStoreItem(areaCode, storeItem, contentHash, coordinates);
+        return store;
+    }
+
+    /**
+     * 목록 API 데이터 반영 (미러 동기화용)
+     *  - 목록 데이터가 바뀌었으면 상세 정보도 다시 받아오도록 표시
+     * @param coordinates [위도, 경도], 좌표를 구하지 못했으면 null (기존 좌표 유지)
+     */
+    public void applyStoreItem(String areaCode, JbStoreListApiResponseDTO.StoreItem storeItem,
+                               String contentHash, List<String> coordinates) {
+        this.sno = storeItem.getSno();
+        this.storeName = storeItem.getName();
+        this.storeImage = buildImageUrl(storeItem.getImg());
+        this.area = storeItem.getArea();
+        this.address = storeItem.getAddress();
+        this.smenu = storeItem.getSmenu() != null ? storeItem.getSmenu().replace("^", ", ") : null;
+        this.time = storeItem.getTime();
+        this.tel = storeItem.getTel();
+        this.areaCode = areaCode;
+        this.contentHash = contentHash;
+        this.detailLoaded = false;
+
+        if (coordinates != null) {
+            this.lat = coordinates.get(0);
+            this.lng = coordinates.get(1);
+        }
+    }
+
+    /**
+     * 상세 API 데이터 반영 (목록 동기화로만 들어온 매장 보완)
+     */
+    public void applyStoreDetail(JbStoreDetailApiResponseDTO.StoreDetail storeDetail, List<String> coordinates) {
+        this.storeName = storeDetail.getName();
+        this.storeImage = buildImageUrl(storeDetail.getImg());
+        this.area = storeDetail.getArea();
+        this.address = storeDetail.getAddress();
+        this.smenu = storeDetail.getSmenu() != null ? storeDetail.getSmenu().replace("^", ", ") : null;
+        this.time = storeDetail.getTime();
+        this.holiday = storeDetail.getHolyday();
+        this.tel = storeDetail.getTel();
+        this.park = convertParkFlag(storeDetail.getPark());
+        this.seat = Integer.parseInt(storeDetail.getSeat());
+        this.lat = coordinates.get(0);
+        this.lng = coordinates.get(1);
+        this.detailLoaded = true;
+    }
+
+    /**
+     * 상세 정보까지 저장된 매장인지 (null: 상세 API로 생성된 기존 데이터)
+     */
+    public boolean isDetailLoaded() {
+        return !Boolean.FALSE.equals(detailLoaded);
+    }
+
     /**
      * 이미지 URL 생성 헬퍼 메서드
      */
@@ -0,0 +1,268 @@
+package com.jbeatda.domain.stores.index;
+
+import com.jbeatda.domain.stores.entity.Store;
+import com.jbeatda.domain.stores.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 메모리 인덱스 (store 테이블 스냅샷)
+ *  - 지역코드 → 매장 배열, sno → 매장, 키워드 검색용 역색인(StoreSearchIndex), 위치 격자(StoreSpatialIndex)
+ *  - 스냅샷은 불변 객체로 만들고 참조만 교체 (읽기는 락 없음, 쓰기는 바뀐 부분만 반영한 새 스냅샷 생성)
+ *  - 동기화 직후 / 서버 시작 시 / 주기적으로 DB에서 다시 생성 (다른 서버의 동기화 반영)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreIndex {
+
+    private final StoreRepository storeRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${store-index.refresh-interval:PT10M}",
+            fixedDelayString = "${store-index.refresh-interval:PT10M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB 전체를 읽어서 스냅샷 재생성 (실패 시 기존 스냅샷 유지)
+     */
+    public synchronized void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<StoreRecord> records = storeRepository.findAllByOrderByIdAsc().stream()
+                    .map(StoreRecord::from)
+                    .collect(Collectors.toList());
+
+            snapshot = Snapshot.of(records);
+            log.info("매장 인덱스 생성 완료 - 매장 수: {}, 버전: {}, 소요 시간: {}ms",
+                    records.size(), snapshot.version, System.currentTimeMillis() - startedAt);
+
+        } catch (Exception e) {
+            log.error("매장 인덱스 생성 실패 - 기존 인덱스 유지", e);
+        }
+    }
+
+    /**
+     * 매장 1건 반영 (신규 저장 / 상세 정보 보완 시)
+     */
+    public void upsert(Store store) {
+        upsertAll(List.of(store));
+    }
+
+    /**
+     * 매장 여러 건 반영 (스냅샷은 한 번만 교체)
+     *  - 바뀐 매장만 sno / 지역 맵에 반영하고, 검색 역색인 / 위치 격자 / 버전은 영향이 있을 때만 다시 생성
+     */
+    public synchronized void upsertAll(Collection<Store> stores) {
+        if (stores.isEmpty()) {
+            return;
+        }
+        Map<String, StoreRecord> updates = new LinkedHashMap<>();
+        for (Store store : stores) {
+            if (store.getSno() != null) {
+                updates.put(store.getSno(), StoreRecord.from(store));
+            }
+        }
+        if (!updates.isEmpty()) {
+            snapshot = snapshot.apply(updates);
+        }
+    }
+
+    /**
+     * 지역별 매장 목록 (인덱스에 해당 지역이 없으면 null)
+     */
+    public List<StoreRecord> findByArea(String areaCode) {
+        StoreRecord[] records = snapshot.byArea.get(areaCode);
+        return records != null ? Collections.unmodifiableList(Arrays.asList(records)) : null;
+    }
+
+    public StoreRecord findBySno(String sno) {
+        return snapshot.bySno.get(sno);
+    }
+
+    /**
+     * 키워드 검색 (매장명/메뉴/주소, 관련도 순) - 인덱스에 미러 매장이 없으면 null
+     * @param areaCode 지역코드 (null이면 전체 지역)
+     */
+    public List<StoreRecord> search(String areaCode, String keyword) {
+        StoreSearchIndex searchIndex = snapshot.searchIndex;
+        return searchIndex.isEmpty() ? null : searchIndex.search(areaCode, keyword, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 반경(미터) 안의 매장을 가까운 순으로 최대 limit 개
+     */
+    public List<StoreSpatialIndex.Nearby> nearby(double lat, double lng, double radiusMeters, int limit) {
+        return snapshot.spatialIndex.nearby(lat, lng, radiusMeters, limit);
+    }
+
+    /**
+     * 매장명 자동완성
+     */
+    public List<StoreRecord> autocomplete(String areaCode, String prefix, int limit) {
+        return snapshot.searchIndex.autocomplete(areaCode, prefix, limit);
+    }
+
+    /**
+     * 목록 데이터 버전 (sno + 목록 해시 기준, 서버가 달라도 데이터가 같으면 같은 값)
+     */
+    public String version() {
+        return snapshot.version;
+    }
+
+    /**
+     * 불변 스냅샷
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(List.of(), Map.of(), Map.of(), StoreSearchIndex.EMPTY,
+                StoreSpatialIndex.EMPTY, "empty");
+
+        final List<StoreRecord> records;
+        final Map<String, StoreRecord[]> byArea;
+        final Map<String, StoreRecord> bySno;
+        final StoreSearchIndex searchIndex;
+        final StoreSpatialIndex spatialIndex;
+        final String version;
+
+        private Snapshot(List<StoreRecord> records, Map<String, StoreRecord[]> byArea,
+                         Map<String, StoreRecord> bySno, StoreSearchIndex searchIndex,
+                         StoreSpatialIndex spatialIndex, String version) {
+            this.records = records;
+            this.byArea = byArea;
+            this.bySno = bySno;
+            this.searchIndex = searchIndex;
+            this.spatialIndex = spatialIndex;
+            this.version = version;
+        }
+
+        static Snapshot of(List<StoreRecord> records) {
+            Map<String, StoreRecord> bySno = new HashMap<>(records.size() * 2);
+            Map<String, List<StoreRecord>> areaLists = new LinkedHashMap<>();
+            List<StoreRecord> unique = new ArrayList<>(records.size());
+
+            for (StoreRecord record : records) {
+                if (record.sno() == null || bySno.putIfAbsent(record.sno(), record) != null) {
+                    continue; // sno 중복이면 먼저 저장된 매장 사용
+                }
+                unique.add(record);
+                if (record.areaCode() != null) {
+                    areaLists.computeIfAbsent(record.areaCode(), key -> new ArrayList<>()).add(record);
+                }
+            }
+
+            Map<String, StoreRecord[]> byArea = new HashMap<>();
+            areaLists.forEach((areaCode, list) -> byArea.put(areaCode, list.toArray(new StoreRecord[0])));
+
+            return new Snapshot(List.copyOf(unique), Map.copyOf(byArea), Map.copyOf(bySno),
+                    StoreSearchIndex.build(unique), StoreSpatialIndex.build(unique), fingerprint(unique));
+        }
+
+        /**
+         * 바뀐 매장만 반영한 새 스냅샷 (copy-on-write)
+         *  - 검색 역색인: 미러 매장(지역코드 있음)이 바뀐 경우에만 다시 생성
+         *  - 위치 격자: 좌표가 있는 매장이 바뀐 경우에만 다시 생성
+         *  - 버전: 목록 해시가 있는 매장이 바뀐 경우에만 다시 계산
+         */
+        Snapshot apply(Map<String, StoreRecord> updates) {
+            List<StoreRecord> merged = new ArrayList<>(records.size() + updates.size());
+            Map<String, StoreRecord> mergedBySno = new HashMap<>(bySno);
+            Set<String> changedAreas = new HashSet<>();
+            boolean searchChanged = false;
+            boolean spatialChanged = false;
+            boolean versionChanged = false;
+
+            for (StoreRecord updated : updates.values()) {
+                StoreRecord previous = mergedBySno.put(updated.sno(), updated);
+                for (StoreRecord record : previous != null ? List.of(previous, updated) : List.of(updated)) {
+                    if (record.areaCode() != null) {
+                        changedAreas.add(record.areaCode());
+                        searchChanged = true;
+                    }
+                    spatialChanged |= record.hasCoordinates();
+                    versionChanged |= record.contentHash() != null;
+                }
+            }
+
+            for (StoreRecord record : records) {
+                merged.add(updates.getOrDefault(record.sno(), record));
+            }
+            for (StoreRecord updated : updates.values()) {
+                if (!bySno.containsKey(updated.sno())) {
+                    merged.add(updated);
+                }
+            }
+
+            Map<String, StoreRecord[]> mergedByArea = new HashMap<>(byArea);
+            if (!changedAreas.isEmpty()) {
+                Map<String, List<StoreRecord>> areaLists = new HashMap<>();
+                for (StoreRecord record : merged) {
+                    if (record.areaCode() != null && changedAreas.contains(record.areaCode())) {
+                        areaLists.computeIfAbsent(record.areaCode(), key -> new ArrayList<>()).add(record);
+                    }
+                }
+                for (String areaCode : changedAreas) {
+                    List<StoreRecord> list = areaLists.get(areaCode);
+                    if (list != null) {
+                        mergedByArea.put(areaCode, list.toArray(new StoreRecord[0]));
+                    } else {
+                        mergedByArea.remove(areaCode);
+                    }
+                }
+            }
+
+            return new Snapshot(List.copyOf(merged), Map.copyOf(mergedByArea), Map.copyOf(mergedBySno),
+                    searchChanged ? StoreSearchIndex.build(merged) : searchIndex,
+                    spatialChanged ? StoreSpatialIndex.build(merged) : spatialIndex,
+                    versionChanged ? fingerprint(merged) : version);
+        }
+
+        private static String fingerprint(List<StoreRecord> records) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                records.stream()
+                        .filter(record -> record.contentHash() != null)
+                        .map(record -> record.sno() + ":" + record.contentHash() + "\n")
+                        .sorted()
+                        .forEach(line -> digest.update(line.getBytes(StandardCharsets.UTF_8)));
+
+                StringBuilder hex = new StringBuilder();
+                byte[] hash = digest.digest();
+                for (int i = 0; i < 6; i++) {
+                    hex.append(String.format("%02x", hash[i]));
+                }
+                return hex.toString();
+
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
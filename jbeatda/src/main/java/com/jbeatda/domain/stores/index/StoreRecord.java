@@ -0,0 +1,85 @@
+package com.jbeatda.domain.stores.index;
+
+import com.jbeatda.DTO.responseDTO.StoreDetailResponseDTO;
+import com.jbeatda.domain.stores.entity.Store;
+
+/**
+ * 메모리 인덱스용 매장 정보 (불변)
+ *  - 좌표는 문자열(응답용)과 double(거리 계산용)을 함께 보관, 좌표가 없으면 NaN
+ */
+public record StoreRecord(
+        String sno,
+        String storeName,
+        String storeImage,
+        String area,
+        String areaCode,
+        String address,
+        String smenu,
+        String time,
+        String tel,
+        String holiday,
+        Boolean park,
+        int seat,
+        String lat,
+        String lng,
+        double latitude,
+        double longitude,
+        String contentHash,
+        boolean detailLoaded
+) {
+
+    public static StoreRecord from(Store store) {
+        return new StoreRecord(
+                store.getSno(),
+                store.getStoreName(),
+                store.getStoreImage(),
+                store.getArea(),
+                store.getAreaCode(),
+                store.getAddress(),
+                store.getSmenu(),
+                store.getTime(),
+                store.getTel(),
+                store.getHoliday(),
+                store.getPark(),
+                store.getSeat(),
+                store.getLat(),
+                store.getLng(),
+                parseCoordinate(store.getLat()),
+                parseCoordinate(store.getLng()),
+                store.getContentHash(),
+                store.isDetailLoaded());
+    }
+
+    public boolean hasCoordinates() {
+        return !Double.isNaN(latitude) && !Double.isNaN(longitude);
+    }
+
+    public StoreDetailResponseDTO toStoreDetailResponseDTO() {
+        return StoreDetailResponseDTO.builder()
+                .storeName(storeName)
+                .storeImage(storeImage)
+                .area(area)
+                .address(address)
+                .smenu(smenu)
+                .time(time)
+                .holyday(holiday)
+                .tel(tel)
+                .sno(sno)
+                .park(Boolean.TRUE.equals(park))
+                .seat(seat)
+                .lat(lat)
+                .lng(lng)
+                .build();
+    }
+
+    private static double parseCoordinate(String value) {
+        if (value == null || value.isBlank()) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
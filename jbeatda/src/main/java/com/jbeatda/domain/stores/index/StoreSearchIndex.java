@@ -0,0 +1,327 @@
+package com.jbeatda.domain.stores.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매장 검색용 역색인 (불변, StoreIndex 스냅샷과 함께 생성)
+ *  - 매장명 / 메뉴 / 주소를 자모 단위로 분해한 뒤 3-gram 으로 색인
+ *    -> "비ㅂ", "비비" 처럼 입력 중인 마지막 글자도 "비빔밥"에 매칭 (자동완성)
+ *  - 후보는 n-gram 역색인 교집합으로 좁히고, 실제 포함 여부는 음절 단위로 확인
+ *    -> 완성된 글자는 음절이 그대로 일치해야 하고, 마지막 글자만 같은 위치 음절의 자모 앞부분과 비교
+ *       ("감"은 "가마솥", "국"은 "구기자"에 매칭되지 않음)
+ *  - 순위: 매장명 > 메뉴 > 주소, 같은 필드에서는 시작 일치 > 단어 시작 일치 > 부분 일치
+ */
+public final class StoreSearchIndex {
+
+    static final StoreSearchIndex EMPTY = build(List.of());
+
+    private static final int GRAM = 3;
+
+    // 초성 / 중성 / 종성 (겹모음, 겹받침은 입력 순서대로 분해)
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 단독으로 입력된 겹자모 (ㄺ, ㅘ 등)
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ"));
+
+    // 필드별 가중치 [시작 일치, 단어 시작 일치, 부분 일치]
+    private static final int[] NAME_SCORES = {30, 20, 10};
+    private static final int[] MENU_SCORES = {8, 8, 5};
+    private static final int[] ADDRESS_SCORES = {4, 4, 2};
+    private static final int EXACT_NAME_BONUS = 50;
+
+    private final StoreRecord[] docs;
+    // 정규화된 필드 (음절 그대로, 자모 분해는 색인 생성 시에만)
+    private final String[] names;
+    private final String[] menus;
+    private final String[] addresses;
+    private final Map<String, int[]> postings;
+
+    private StoreSearchIndex(StoreRecord[] docs, String[] names, String[] menus, String[] addresses,
+                             Map<String, int[]> postings) {
+        this.docs = docs;
+        this.names = names;
+        this.menus = menus;
+        this.addresses = addresses;
+        this.postings = postings;
+    }
+
+    /**
+     * 미러 매장(지역코드 있음)만 색인
+     */
+    static StoreSearchIndex build(List<StoreRecord> records) {
+        StoreRecord[] docs = records.stream()
+                .filter(record -> record.areaCode() != null)
+                .toArray(StoreRecord[]::new);
+
+        String[] names = new String[docs.length];
+        String[] menus = new String[docs.length];
+        String[] addresses = new String[docs.length];
+        Map<String, List<Integer>> builder = new HashMap<>();
+
+        for (int doc = 0; doc < docs.length; doc++) {
+            names[doc] = normalize(docs[doc].storeName());
+            menus[doc] = normalize(docs[doc].smenu());
+            addresses[doc] = normalize(docs[doc].address());
+
+            Set<String> grams = new LinkedHashSet<>();
+            addGrams(toJamo(names[doc]), grams);
+            addGrams(toJamo(menus[doc]), grams);
+            addGrams(toJamo(addresses[doc]), grams);
+            for (String gram : grams) {
+                builder.computeIfAbsent(gram, key -> new ArrayList<>()).add(doc);
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(builder.size() * 2);
+        builder.forEach((gram, docIds) -> postings.put(gram, docIds.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new StoreSearchIndex(docs, names, menus, addresses, postings);
+    }
+
+    boolean isEmpty() {
+        return docs.length == 0;
+    }
+
+    /**
+     * 키워드 검색 (띄어쓰기로 나눈 단어는 모두 포함해야 함, 빈 키워드는 지역 전체)
+     * @param areaCode 지역코드 (null이면 전체 지역)
+     */
+    List<StoreRecord> search(String areaCode, String keyword, int limit) {
+        QueryWord[] words = toQueryWords(keyword);
+        if (words.length == 0) {
+            List<StoreRecord> results = new ArrayList<>();
+            for (StoreRecord doc : docs) {
+                if (results.size() >= limit) {
+                    break;
+                }
+                if (areaCode == null || areaCode.equals(doc.areaCode())) {
+                    results.add(doc);
+                }
+            }
+            return results;
+        }
+
+        String exactName = normalize(keyword);
+        return rank(areaCode, words, limit, doc -> {
+            int total = 0;
+            for (QueryWord word : words) {
+                int score = Math.max(fieldScore(names[doc], word, NAME_SCORES),
+                        Math.max(fieldScore(menus[doc], word, MENU_SCORES),
+                                fieldScore(addresses[doc], word, ADDRESS_SCORES)));
+                if (score == 0) {
+                    return 0;
+                }
+                total += score;
+            }
+            return names[doc].equals(exactName) ? total + EXACT_NAME_BONUS : total;
+        });
+    }
+
+    /**
+     * 매장명 자동완성 (입력 중인 마지막 글자까지 자모 단위로 매칭)
+     */
+    List<StoreRecord> autocomplete(String areaCode, String prefix, int limit) {
+        QueryWord[] words = toQueryWords(prefix);
+        if (words.length == 0) {
+            return List.of();
+        }
+
+        return rank(areaCode, words, limit, doc -> {
+            int total = 0;
+            for (QueryWord word : words) {
+                int score = fieldScore(names[doc], word, NAME_SCORES);
+                if (score == 0) {
+                    return 0;
+                }
+                total += score;
+            }
+            return total;
+        });
+    }
+
+    private List<StoreRecord> rank(String areaCode, QueryWord[] words, int limit, DocScorer scorer) {
+        int[] candidates = candidates(words);
+
+        List<int[]> hits = new ArrayList<>(); // [doc, score]
+        for (int i = 0, size = candidates != null ? candidates.length : docs.length; i < size; i++) {
+            int doc = candidates != null ? candidates[i] : i;
+            if (areaCode != null && !areaCode.equals(docs[doc].areaCode())) {
+                continue;
+            }
+            int score = scorer.score(doc);
+            if (score > 0) {
+                hits.add(new int[]{doc, score});
+            }
+        }
+
+        // 점수 내림차순, 같은 점수는 저장 순서 (id 오름차순)
+        hits.sort(Comparator.<int[]>comparingInt(hit -> -hit[1]).thenComparingInt(hit -> hit[0]));
+
+        List<StoreRecord> results = new ArrayList<>(Math.min(hits.size(), limit));
+        for (int i = 0; i < hits.size() && i < limit; i++) {
+            results.add(docs[hits.get(i)[0]]);
+        }
+        return results;
+    }
+
+    /**
+     * n-gram 역색인 교집합으로 후보 매장 추출 (짧은 검색어만 있으면 null → 전체 확인)
+     */
+    private int[] candidates(QueryWord[] words) {
+        int[] result = null;
+        for (QueryWord queryWord : words) {
+            String word = queryWord.jamo();
+            for (int i = 0; i + GRAM <= word.length(); i++) {
+                int[] posting = postings.get(word.substring(i, i + GRAM));
+                if (posting == null) {
+                    return new int[0];
+                }
+                result = result == null ? posting : intersect(result, posting);
+                if (result.length == 0) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 필드 안에서 검색어 위치별 점수 중 가장 높은 값 (없으면 0)
+     *  - 마지막 글자 앞부분(head)은 음절 그대로 일치, 마지막 글자는 바로 다음 음절의 자모 앞부분과 비교
+     */
+    private static int fieldScore(String field, QueryWord word, int[] scores) {
+        String head = word.head();
+        int best = 0;
+        for (int index = field.indexOf(head); index >= 0 && index + head.length() < field.length();
+             index = field.indexOf(head, index + 1)) {
+            char next = field.charAt(index + head.length());
+            if (!toJamo(String.valueOf(next)).startsWith(word.tail())) {
+                continue;
+            }
+            if (index == 0) {
+                return scores[0];
+            }
+            best = Math.max(best, field.charAt(index - 1) == ' ' ? scores[1] : scores[2]);
+        }
+        return best;
+    }
+
+    private static void addGrams(String text, Set<String> grams) {
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+    }
+
+    private static QueryWord[] toQueryWords(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return new QueryWord[0];
+        }
+        return Arrays.stream(normalized.split(" "))
+                .map(QueryWord::of)
+                .toArray(QueryWord[]::new);
+    }
+
+    /**
+     * 소문자 변환, 구분자(^, 쉼표, 괄호 등)는 공백으로, 연속 공백은 하나로
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase();
+        StringBuilder sb = new StringBuilder(normalized.length());
+        boolean space = true;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+                space = false;
+            } else if (!space) {
+                sb.append(' ');
+                space = true;
+            }
+        }
+        int length = sb.length();
+        return length > 0 && sb.charAt(length - 1) == ' ' ? sb.substring(0, length - 1) : sb.toString();
+    }
+
+    /**
+     * 한글 음절을 자모로 분해 ("밥" → "ㅂㅏㅂ"), 그 외 문자는 그대로
+     */
+    static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                int index = c - 0xAC00;
+                sb.append(CHOSEONG[index / 588])
+                        .append(JUNGSEONG[(index % 588) / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else {
+                sb.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 검색어 단어
+     * @param head 마지막 글자를 뺀 앞부분 (음절 그대로 비교)
+     * @param tail 마지막 글자의 자모 (입력 중일 수 있어서 자모 앞부분으로 비교)
+     * @param jamo 단어 전체 자모 (n-gram 후보 추출용)
+     */
+    private record QueryWord(String head, String tail, String jamo) {
+
+        static QueryWord of(String word) {
+            int last = word.length() - 1;
+            return new QueryWord(word.substring(0, last), toJamo(word.substring(last)), toJamo(word));
+        }
+    }
+
+    @FunctionalInterface
+    private interface DocScorer {
+        int score(int doc);
+    }
+}
@@ -0,0 +1,216 @@
+package com.jbeatda.domain.stores.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매장 위치 격자 인덱스 (불변, StoreIndex 스냅샷과 함께 생성)
+ *  - 좌표가 있는 매장을 약 1km 격자에 배치 (격자별 매장 번호를 배열 하나에 연속 저장)
+ *  - 좌표는 double 배열로 보관해서 조회 시 문자열 파싱/객체 생성 없음
+ *  - 반경 안의 격자만 확인 → 하버사인 거리로 거르고 가까운 순 limit 개 반환
+ */
+public final class StoreSpatialIndex {
+
+    static final StoreSpatialIndex EMPTY = build(List.of());
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000d;
+    private static final double METERS_PER_DEGREE = 111_320d;
+    private static final double CELL_DEGREES = 0.01;
+    private static final int MAX_CELLS_PER_AXIS = 512;
+
+    private final StoreRecord[] docs;
+    private final double[] lats;
+    private final double[] lngs;
+
+    private final double minLat;
+    private final double minLng;
+    private final double cellLat;
+    private final double cellLng;
+    private final int rows;
+    private final int cols;
+
+    // 격자 (row * cols + col) 의 매장 번호 = cellDocs[cellStart[cell] .. cellStart[cell + 1])
+    private final int[] cellStart;
+    private final int[] cellDocs;
+
+    private StoreSpatialIndex(StoreRecord[] docs, double[] lats, double[] lngs,
+                              double minLat, double minLng, double cellLat, double cellLng,
+                              int rows, int cols, int[] cellStart, int[] cellDocs) {
+        this.docs = docs;
+        this.lats = lats;
+        this.lngs = lngs;
+        this.minLat = minLat;
+        this.minLng = minLng;
+        this.cellLat = cellLat;
+        this.cellLng = cellLng;
+        this.rows = rows;
+        this.cols = cols;
+        this.cellStart = cellStart;
+        this.cellDocs = cellDocs;
+    }
+
+    /**
+     * 거리 포함 조회 결과
+     */
+    public record Nearby(StoreRecord store, double distanceMeters) {
+    }
+
+    static StoreSpatialIndex build(List<StoreRecord> records) {
+        StoreRecord[] docs = records.stream()
+                .filter(StoreRecord::hasCoordinates)
+                .toArray(StoreRecord[]::new);
+
+        int size = docs.length;
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLng = Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            lats[i] = docs[i].latitude();
+            lngs[i] = docs[i].longitude();
+            minLat = Math.min(minLat, lats[i]);
+            maxLat = Math.max(maxLat, lats[i]);
+            minLng = Math.min(minLng, lngs[i]);
+            maxLng = Math.max(maxLng, lngs[i]);
+        }
+        if (size == 0) {
+            minLat = maxLat = minLng = maxLng = 0;
+        }
+
+        // 격자 크기: 기본 0.01도, 잘못된 좌표로 범위가 너무 넓으면 격자를 키움
+        double cellLat = Math.max(CELL_DEGREES, (maxLat - minLat) / MAX_CELLS_PER_AXIS);
+        double cellLng = Math.max(CELL_DEGREES, (maxLng - minLng) / MAX_CELLS_PER_AXIS);
+        int rows = (int) ((maxLat - minLat) / cellLat) + 1;
+        int cols = (int) ((maxLng - minLng) / cellLng) + 1;
+
+        // 격자별 매장 수 → 시작 위치 → 배치 (counting sort)
+        int[] cellOf = new int[size];
+        int[] cellStart = new int[rows * cols + 1];
+        for (int i = 0; i < size; i++) {
+            int row = Math.min(rows - 1, (int) ((lats[i] - minLat) / cellLat));
+            int col = Math.min(cols - 1, (int) ((lngs[i] - minLng) / cellLng));
+            cellOf[i] = row * cols + col;
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int cell = 0; cell < rows * cols; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        int[] cursor = cellStart.clone();
+        int[] cellDocs = new int[size];
+        for (int i = 0; i < size; i++) {
+            cellDocs[cursor[cellOf[i]]++] = i;
+        }
+
+        return new StoreSpatialIndex(docs, lats, lngs, minLat, minLng, cellLat, cellLng,
+                rows, cols, cellStart, cellDocs);
+    }
+
+    /**
+     * 반경 안의 매장을 가까운 순으로 최대 limit 개
+     */
+    List<Nearby> nearby(double lat, double lng, double radiusMeters, int limit) {
+        if (docs.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        // 1. 반경을 덮는 격자 범위
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(lat))));
+        int rowFrom = Math.max(0, (int) Math.floor((lat - latDelta - minLat) / cellLat));
+        int rowTo = Math.min(rows - 1, (int) Math.floor((lat + latDelta - minLat) / cellLat));
+        int colFrom = Math.max(0, (int) Math.floor((lng - lngDelta - minLng) / cellLng));
+        int colTo = Math.min(cols - 1, (int) Math.floor((lng + lngDelta - minLng) / cellLng));
+        if (rowFrom > rowTo || colFrom > colTo) {
+            return List.of();
+        }
+
+        // 2. 가까운 limit 개만 최대 힙으로 유지 (루트 = 가장 먼 매장)
+        int[] heapDocs = new int[limit];
+        double[] heapDists = new double[limit];
+        int heapSize = 0;
+
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                int cell = row * cols + col;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int doc = cellDocs[k];
+                    double distance = haversine(lat, lng, lats[doc], lngs[doc]);
+                    if (distance > radiusMeters) {
+                        continue;
+                    }
+                    if (heapSize < limit) {
+                        heapDocs[heapSize] = doc;
+                        heapDists[heapSize] = distance;
+                        siftUp(heapDocs, heapDists, heapSize++);
+                    } else if (distance < heapDists[0]) {
+                        heapDocs[0] = doc;
+                        heapDists[0] = distance;
+                        siftDown(heapDocs, heapDists, heapSize);
+                    }
+                }
+            }
+        }
+
+        // 3. 힙에서 꺼내면 먼 순서 → 뒤에서부터 채움
+        Nearby[] results = new Nearby[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            results[i] = new Nearby(docs[heapDocs[0]], heapDists[0]);
+            heapDocs[0] = heapDocs[i];
+            heapDists[0] = heapDists[i];
+            siftDown(heapDocs, heapDists, i);
+        }
+        return List.of(results);
+    }
+
+    /**
+     * 두 좌표 사이 거리 (미터)
+     */
+    public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static void siftUp(int[] docs, double[] dists, int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (dists[parent] >= dists[index]) {
+                return;
+            }
+            swap(docs, dists, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] docs, double[] dists, int size) {
+        int index = 0;
+        while (true) {
+            int left = index * 2 + 1;
+            int right = left + 1;
+            int largest = index;
+            if (left < size && dists[left] > dists[largest]) {
+                largest = left;
+            }
+            if (right < size && dists[right] > dists[largest]) {
+                largest = right;
+            }
+            if (largest == index) {
+                return;
+            }
+            swap(docs, dists, index, largest);
+            index = largest;
+        }
+    }
+
+    private static void swap(int[] docs, double[] dists, int i, int j) {
+        int doc = docs[i];
+        docs[i] = docs[j];
+        docs[j] = doc;
+        double dist = dists[i];
+        dists[i] = dists[j];
+        dists[j] = dist;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jbeatda.domain.stores.repository;
+
+import com.jbeatda.domain.stores.entity.Store;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * store 테이블 저장 (JDBC batch, 새 매장 INSERT 는 모두 여기서 - 상세 조회 / 코스 저장 / 목록 동기화)
+ *  - Store 는 IDENTITY 키라서 JPA saveAll 로는 batch insert 가 되지 않음
+ *  - rewriteBatchedStatements=true 면 여러 행이 INSERT 1번으로 전송됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreJdbcRepository {
+
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO store (sno, store_name, store_image, area, address, smenu, time, holiday, tel, " +
+            "park, seat, lat, lng, area_code, content_hash, detail_loaded) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE sno = sno";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 매장 일괄 저장 (같은 sno 가 이미 있으면 그 행은 바꾸지 않음, uk_store_sno 기준)
+     *  - 동시에 같은 매장을 저장해도 1행만 생성
+     *  - 저장된 매장(id 포함)은 StoreRepository.findBySnoInForShare 로 다시 조회
+     */
+    public void insertIfAbsent(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, stores, stores.size(), (ps, store) -> {
+            ps.setString(1, store.getSno());
+            ps.setString(2, store.getStoreName());
+            ps.setString(3, store.getStoreImage());
+            ps.setString(4, store.getArea());
+            ps.setString(5, store.getAddress());
+            ps.setString(6, store.getSmenu());
+            ps.setString(7, store.getTime());
+            ps.setString(8, store.getHoliday());
+            ps.setString(9, store.getTel());
+            ps.setObject(10, store.getPark());
+            ps.setInt(11, store.getSeat());
+            ps.setString(12, store.getLat());
+            ps.setString(13, store.getLng());
+            ps.setString(14, store.getAreaCode());
+            ps.setString(15, store.getContentHash());
+            ps.setObject(16, store.getDetailLoaded());
+        });
+    }
+}
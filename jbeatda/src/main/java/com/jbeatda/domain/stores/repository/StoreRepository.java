@@ -2,10 +2,11 @@ package com.jbeatda.domain.stores.repository;
 
 import com.jbeatda.domain.stores.entity.Bookmark;
 import com.jbeatda.domain.stores.entity.Store;
-import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,6 +19,28 @@ public interface StoreRepository extends JpaRepository<Store, Integer> {
 
     Optional<Store> findBySno(String sno);
 
+    List<Store> findBySnoIn(List<String> snos);
+
+    /**
+     * sno 목록으로 조회 (공유 잠금, SELECT ... FOR SHARE)
+     *  - 잠금 조회는 트랜잭션 스냅샷이 아니라 최신 커밋 데이터를 읽음 (다른 트랜잭션이 방금 저장한 행도 조회)
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM Store s WHERE s.sno IN :snos")
+    List<Store> findBySnoInForShare(@Param("snos") List<String> snos);
+
+    // 미러 동기화된 지역별 매장 목록
+    List<Store> findByAreaCodeOrderByIdAsc(String areaCode);
+
+    // 미러 동기화된 매장 검색 (area가 null이면 전체 지역)
+    @Query("SELECT s FROM Store s " +
+            "WHERE s.areaCode IS NOT NULL " +
+            "AND (:area IS NULL OR s.areaCode = :area) " +
+            "AND (s.storeName LIKE CONCAT('%', :keyword, '%') " +
+            "OR s.smenu LIKE CONCAT('%', :keyword, '%') " +
+            "OR s.address LIKE CONCAT('%', :keyword, '%')) " +
+            "ORDER BY s.id ASC")
+    List<Store> searchSynced(@Param("area") String area, @Param("keyword") String keyword);
 
 
 }
@@ -0,0 +1,112 @@
+package com.jbeatda.domain.stores.service;
+
+import com.jbeatda.domain.stores.cache.GeocodeCache;
+import com.jbeatda.domain.stores.client.KakaoClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 매장 좌표 결정
+ *  1. 공공 API가 내려준 좌표(F_LATITUDE/F_LONGITUDE)가 전북 영역 안이면 그대로 사용
+ *  2. 좌표 캐시 (로컬 → Redis)
+ *  3. 카카오 주소 검색 API
+ */
+@Component
+@Slf4j
+public class CoordinateResolver {
+
+    // 전북 영역 (도서 지역 포함 여유있게)
+    private static final double MIN_LAT = 35.25;
+    private static final double MAX_LAT = 36.20;
+    private static final double MIN_LNG = 126.00;
+    private static final double MAX_LNG = 127.95;
+
+    private final GeocodeCache geocodeCache;
+    private final KakaoClient kakaoClient;
+
+    private final Counter upstreamCounter;
+    private final Counter cacheCounter;
+    private final Counter kakaoCounter;
+    private final Counter failedCounter;
+
+    public CoordinateResolver(GeocodeCache geocodeCache, KakaoClient kakaoClient, MeterRegistry meterRegistry) {
+        this.geocodeCache = geocodeCache;
+        this.kakaoClient = kakaoClient;
+        this.upstreamCounter = counter(meterRegistry, "upstream");
+        this.cacheCounter = counter(meterRegistry, "cache");
+        this.kakaoCounter = counter(meterRegistry, "kakao");
+        this.failedCounter = counter(meterRegistry, "failed");
+    }
+
+    /**
+     * 좌표 결정 (공공 API 좌표 → 캐시 → 카카오)
+     * @return [위도, 경도]
+     */
+    public List<String> resolve(String upstreamLat, String upstreamLng, String address) {
+        // 1. 공공 API 좌표
+        List<String> upstream = fromUpstream(upstreamLat, upstreamLng);
+        if (upstream != null) {
+            return upstream;
+        }
+
+        // 2. 캐시
+        GeocodeCache.CachedPoint cached = geocodeCache.get(address);
+        if (cached != null) {
+            cacheCounter.increment();
+            return cached.orElseThrow();
+        }
+
+        // 3. 카카오 API
+        try {
+            List<String> coordinates = kakaoClient.requestPoint(address);
+            kakaoCounter.increment();
+            return coordinates;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 공공 API 좌표가 유효하면 [위도, 경도], 아니면 null (외부 호출 없음)
+     */
+    public List<String> fromUpstream(String upstreamLat, String upstreamLng) {
+        Double lat = parseCoordinate(upstreamLat);
+        Double lng = parseCoordinate(upstreamLng);
+
+        if (lat == null || lng == null || !isInsideJeonbuk(lat, lng)) {
+            return null;
+        }
+
+        upstreamCounter.increment();
+        return List.of(upstreamLat.trim(), upstreamLng.trim());
+    }
+
+    private boolean isInsideJeonbuk(double lat, double lng) {
+        return lat >= MIN_LAT && lat <= MAX_LAT && lng >= MIN_LNG && lng <= MAX_LNG;
+    }
+
+    private Double parseCoordinate(String value) {
+        if (value == null || value.trim().isEmpty() || "null".equals(value.trim())) {
+            return null;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            return Double.isFinite(parsed) ? parsed : null;
+        } catch (NumberFormatException e) {
+            log.debug("좌표 파싱 실패: {}", value);
+            return null;
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier) {
+        return Counter.builder("coordinate.resolve")
+                .description("매장 좌표를 결정한 단계")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,481 @@
+package com.jbeatda.domain.stores.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jbeatda.DTO.external.JbStoreDetailApiResponseDTO;
+import com.jbeatda.domain.stores.client.JbStoreApiClient;
+import com.jbeatda.domain.stores.entity.Store;
+import com.jbeatda.domain.stores.index.StoreIndex;
+import com.jbeatda.domain.stores.repository.StoreJdbcRepository;
+import com.jbeatda.domain.stores.repository.StoreRepository;
+import com.jbeatda.exception.CustomException;
+import com.jbeatda.exception.ExternalApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 매장 번호(sno) → 매장 정보 (store 테이블 → 공공 상세 API + 좌표 순으로 조회, 로컬 메모리 캐시)
+ *  - 상세 조회 / 북마크 / 코스 저장이 같은 조회 로직과 캐시를 사용
+ *  - 같은 매장을 동시에 요청하면 외부 API 는 1번만 호출 (먼저 시작한 조회 결과를 기다림, 단건 / 일괄 조회가 같은 in-flight 맵 사용)
+ *  - 외부 API / 좌표 / DB 저장은 캐시 잠금 밖에서 실행 (느린 조회가 다른 키나 캐시 비우기를 막지 않음)
+ *  - 공공 API 에 없는 매장도 짧게 캐시 (negative caching)
+ *  - 매장 저장은 별도 트랜잭션으로 커밋한 뒤 캐시 / 메모리 인덱스에 반영 (호출한 쪽 트랜잭션이 롤백돼도 없는 id 를 캐시하지 않음)
+ */
+@Component
+@Slf4j
+public class StoreResolver {
+
+    private final StoreRepository storeRepository;
+    private final StoreJdbcRepository storeJdbcRepository;
+    private final JbStoreApiClient jbStoreApiClient;
+    private final CoordinateResolver coordinateResolver;
+    private final StoreIndex storeIndex;
+    private final TransactionTemplate storeTransaction;
+    private final Cache<String, ResolvedStore> cache;
+
+    // sno → 진행 중인 조회 (결과가 null 이면 조회를 끝내지 못한 것 → 기다린 쪽이 다시 조회)
+    private final Map<String, CompletableFuture<ResolvedStore>> inFlight = new ConcurrentHashMap<>();
+    // 캐시 비우기 횟수 (비우기 전에 시작한 조회 결과는 캐시하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter dbCounter;
+    private final Counter upstreamCounter;
+    private final Counter notFoundCounter;
+
+    public StoreResolver(StoreRepository storeRepository,
+                         StoreJdbcRepository storeJdbcRepository,
+                         JbStoreApiClient jbStoreApiClient,
+                         CoordinateResolver coordinateResolver,
+                         StoreIndex storeIndex,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${store-resolver.max-size:10000}") long maxSize,
+                         @Value("${store-resolver.ttl:PT10M}") Duration ttl,
+                         @Value("${store-resolver.negative-ttl:PT10M}") Duration negativeTtl) {
+        this.storeRepository = storeRepository;
+        this.storeJdbcRepository = storeJdbcRepository;
+        this.jbStoreApiClient = jbStoreApiClient;
+        this.coordinateResolver = coordinateResolver;
+        this.storeIndex = storeIndex;
+
+        // 매장 저장은 항상 새 트랜잭션 (바깥 트랜잭션 스냅샷 / 롤백과 무관하게 커밋)
+        this.storeTransaction = new TransactionTemplate(transactionManager);
+        this.storeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 없는 매장은 negative-ttl, 나머지는 ttl 동안 보관 (동기화로 바뀐 내용은 ttl 이 지나면 반영)
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, ResolvedStore>() {
+                    @Override
+                    public long expireAfterCreate(String key, ResolvedStore value, long currentTime) {
+                        return (value.isNotFound() ? negativeTtl : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, ResolvedStore value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, ResolvedStore value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "store.resolver");
+
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.dbCounter = counter(meterRegistry, "db");
+        this.upstreamCounter = counter(meterRegistry, "upstream");
+        this.notFoundCounter = counter(meterRegistry, "not_found");
+    }
+
+    /**
+     * 상세 정보까지 있는 매장 조회 (store 테이블에 없으면 저장하지 않고 API 결과만 반환)
+     * @throws EntityNotFoundException 공공 API 에도 없는 매장
+     */
+    public ResolvedStore resolveDetail(String sno) {
+        return resolve(sno, resolved -> resolved.isNotFound() || resolved.hasDetail(), current -> {
+            Store existing = current != null ? current.store() : findStore(sno);
+            return loadDetail(sno, existing, null);
+        }).orElseThrow(sno);
+    }
+
+    /**
+     * store 테이블에 저장된 매장 조회 (없으면 상세 API 로 불러와서 저장)
+     * @param coordinatesHint 새로 저장할 때 사용할 좌표 [위도, 경도] (null 이면 CoordinateResolver)
+     * @throws EntityNotFoundException 공공 API 에도 없는 매장
+     */
+    public Store resolveStore(String sno, List<String> coordinatesHint) {
+        return resolve(sno, resolved -> resolved.isNotFound() || resolved.store() != null, current -> {
+            if (current == null) {
+                // 목록 동기화로만 들어온 매장도 그대로 사용 (상세 API 호출 없음)
+                Store existing = findStore(sno);
+                if (existing != null) {
+                    return ResolvedStore.of(existing);
+                }
+                current = loadDetail(sno, null, coordinatesHint);
+                if (current.isNotFound()) {
+                    return current;
+                }
+            }
+            return save(current);
+        }).orElseThrow(sno).store();
+    }
+
+    /**
+     * 캐시 → 진행 중인 조회 → 직접 조회 (single-flight)
+     *  - 같은 매장을 먼저 조회하는 요청이 있으면 그 결과를 기다리고, 필요한 정보가 없으면 다시 시도
+     *  - 직접 조회할 때는 잠금 없이 loader 실행 → 캐시 저장 → 기다리던 요청에 전달
+     * @param complete 이 결과로 충분한지 여부
+     * @param loader 캐시에 있던 불완전한 결과(없으면 null) → 조회 결과
+     */
+    private ResolvedStore resolve(String sno, Predicate<ResolvedStore> complete, UnaryOperator<ResolvedStore> loader) {
+        while (true) {
+            ResolvedStore cached = cache.getIfPresent(sno);
+            if (cached != null && complete.test(cached)) {
+                hitCounter.increment();
+                return cached;
+            }
+
+            CompletableFuture<ResolvedStore> created = new CompletableFuture<>();
+            CompletableFuture<ResolvedStore> running = inFlight.putIfAbsent(sno, created);
+            if (running != null) {
+                ResolvedStore result = await(running);
+                if (result != null && complete.test(result)) {
+                    return result;
+                }
+                continue;
+            }
+
+            long loadedAt = generation.get();
+            try {
+                ResolvedStore loaded = loader.apply(cached);
+                cacheIfCurrent(sno, loaded, loadedAt);
+                created.complete(loaded);
+                return loaded;
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+                throw e;
+            } finally {
+                created.complete(null);
+                inFlight.remove(sno, created);
+            }
+        }
+    }
+
+    /**
+     * 여러 매장을 한 번에 조회 (코스 저장용)
+     *  - 캐시에 없는 매장은 IN 쿼리 1번으로 조회
+     *  - store 테이블에도 없는 매장은 상세 API 를 동시에 호출하고 일괄 저장 (이미 저장된 sno 는 그대로)
+     *  - 트랜잭션 밖에서 호출 (저장은 별도 트랜잭션으로 커밋되므로 코스 저장 트랜잭션보다 먼저)
+     * @param coordinatesHints sno → 새로 저장할 때 사용할 좌표 [위도, 경도] (값이 null 이면 CoordinateResolver)
+     * @return sno → store 테이블 매장
+     * @throws EntityNotFoundException 공공 API 에도 없는 매장이 있는 경우
+     */
+    public Map<String, Store> resolveStores(Map<String, List<String>> coordinatesHints) {
+        Map<String, Store> stores = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String sno : coordinatesHints.keySet()) {
+            ResolvedStore cached = cache.getIfPresent(sno);
+            if (cached != null && (cached.isNotFound() || cached.store() != null)) {
+                hitCounter.increment();
+                stores.put(sno, cached.orElseThrow(sno).store());
+            } else {
+                misses.add(sno);
+            }
+        }
+        if (misses.isEmpty()) {
+            return stores;
+        }
+
+        // 1. store 테이블 (IN 쿼리 1번, 목록 동기화로만 들어온 매장도 그대로 사용)
+        dbCounter.increment(misses.size());
+        for (Store store : storeRepository.findBySnoIn(misses)) {
+            if (stores.putIfAbsent(store.getSno(), store) == null) {
+                cache.put(store.getSno(), ResolvedStore.of(store));
+            }
+        }
+        List<String> missing = misses.stream().filter(sno -> !stores.containsKey(sno)).toList();
+        if (missing.isEmpty()) {
+            return stores;
+        }
+
+        // 2. 다른 요청이 조회 중인 매장은 그 결과를 기다리고, 나머지는 여기서 조회 (단건 조회와 같은 in-flight 맵)
+        Map<String, CompletableFuture<ResolvedStore>> owned = new LinkedHashMap<>();
+        Map<String, CompletableFuture<ResolvedStore>> running = new LinkedHashMap<>();
+        for (String sno : missing) {
+            CompletableFuture<ResolvedStore> created = new CompletableFuture<>();
+            CompletableFuture<ResolvedStore> other = inFlight.putIfAbsent(sno, created);
+            if (other == null) {
+                owned.put(sno, created);
+            } else {
+                running.put(sno, other);
+            }
+        }
+        try {
+            if (!owned.isEmpty()) {
+                stores.putAll(loadStores(owned, coordinatesHints));
+            }
+        } finally {
+            // 끝내지 못한 조회(예외)는 null 로 완료 → 기다리던 요청이 직접 다시 조회
+            owned.forEach((sno, future) -> {
+                future.complete(null);
+                inFlight.remove(sno, future);
+            });
+        }
+
+        // 3. 기다린 결과에 store 가 없으면(상세 조회만 했거나 실패) 단건 조회로 저장
+        for (Map.Entry<String, CompletableFuture<ResolvedStore>> entry : running.entrySet()) {
+            String sno = entry.getKey();
+            ResolvedStore result = await(entry.getValue());
+            stores.put(sno, result != null && (result.isNotFound() || result.store() != null)
+                    ? result.orElseThrow(sno).store()
+                    : resolveStore(sno, coordinatesHints.get(sno)));
+        }
+        return stores;
+    }
+
+    /**
+     * 이 요청이 맡은 매장들을 상세 API 동시 호출 → 일괄 저장, 매장별 결과를 캐시 / 기다리는 요청에 전달
+     * @param owned sno → 이 요청이 등록한 in-flight 조회
+     */
+    private Map<String, Store> loadStores(Map<String, CompletableFuture<ResolvedStore>> owned,
+                                          Map<String, List<String>> coordinatesHints) {
+        long loadedAt = generation.get();
+
+        // 1. 상세 API 동시 호출 (캐시에 상세 조회 결과가 있으면 사용)
+        Map<String, CompletableFuture<JbStoreDetailApiResponseDTO.StoreDetail>> details = new LinkedHashMap<>();
+        for (String sno : owned.keySet()) {
+            ResolvedStore cached = cache.getIfPresent(sno);
+            if (cached != null && cached.detail() != null) {
+                details.put(sno, CompletableFuture.completedFuture(cached.detail()));
+            } else {
+                log.info("Store 정보가 없어서 공공 API 호출 - sno: {}", sno);
+                upstreamCounter.increment();
+                details.put(sno, jbStoreApiClient.jbStoreDetailAsync(sno));
+            }
+        }
+        awaitAll(details.values());
+
+        // 2. Store 생성 (요청 좌표 → 공공 API 좌표 → 캐시 → 카카오)
+        List<Store> newStores = new ArrayList<>(details.size());
+        for (Map.Entry<String, CompletableFuture<JbStoreDetailApiResponseDTO.StoreDetail>> entry : details.entrySet()) {
+            String sno = entry.getKey();
+            JbStoreDetailApiResponseDTO.StoreDetail detail = entry.getValue().join();
+            if (detail == null) {
+                log.warn("공공 API에서 매장 정보를 찾을 수 없음 - sno: {}", sno);
+                notFoundCounter.increment();
+                cacheIfCurrent(sno, ResolvedStore.NOT_FOUND, loadedAt);
+                owned.get(sno).complete(ResolvedStore.NOT_FOUND);
+                throw new EntityNotFoundException("매장 정보를 찾을 수 없습니다. SNO: " + sno);
+            }
+            List<String> hint = coordinatesHints.get(sno);
+            List<String> coordinates = hint != null
+                    ? hint
+                    : coordinateResolver.resolve(detail.getFLatitude(), detail.getFLongitude(), detail.getAddress());
+            newStores.add(Store.fromStoreDetail(detail, coordinates));
+        }
+
+        // 3. 일괄 저장 + id 포함해서 다시 조회 (별도 트랜잭션, 커밋 후 캐시 / 인덱스 반영)
+        List<Store> saved = insertOrGetAll(newStores);
+        storeIndex.upsertAll(saved);
+        Map<String, Store> stores = new HashMap<>();
+        for (Store store : saved) {
+            ResolvedStore resolved = ResolvedStore.of(store);
+            cacheIfCurrent(store.getSno(), resolved, loadedAt);
+            owned.get(store.getSno()).complete(resolved);
+            stores.put(store.getSno(), store);
+        }
+        log.info("새로운 Store 일괄 저장 완료 - 매장 수: {}", newStores.size());
+        return stores;
+    }
+
+    /**
+     * 매장 일괄 저장 또는 기존 매장 조회 (insert-or-get, 별도 트랜잭션으로 커밋)
+     *  - 다른 요청이 먼저 저장한 매장도 찾도록 잠금 조회(FOR SHARE)로 다시 읽음
+     * @throws EntityNotFoundException 저장 후에도 조회되지 않는 매장이 있는 경우 (그 사이 삭제 등, 다른 매장은 저장된 채로 둠)
+     */
+    private List<Store> insertOrGetAll(List<Store> stores) {
+        List<String> snos = stores.stream().map(Store::getSno).toList();
+        List<Store> saved = storeTransaction.execute(status -> {
+            storeJdbcRepository.insertIfAbsent(stores);
+            return storeRepository.findBySnoInForShare(snos);
+        });
+
+        Set<String> savedSnos = new HashSet<>();
+        saved.forEach(store -> savedSnos.add(store.getSno()));
+        List<String> unresolved = snos.stream().filter(sno -> !savedSnos.contains(sno)).toList();
+        if (!unresolved.isEmpty()) {
+            log.warn("매장 저장 후 조회 실패 - sno: {}", unresolved);
+            throw new EntityNotFoundException("매장 정보를 찾을 수 없습니다. SNO: " + String.join(", ", unresolved));
+        }
+        return saved;
+    }
+
+    /**
+     * 다른 요청의 조회 결과 대기 (실패했으면 그 예외 전달)
+     */
+    private static ResolvedStore await(CompletableFuture<ResolvedStore> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 상세 API 동시 호출 결과 대기 (하나라도 실패하면 그 예외 전달)
+     */
+    private void awaitAll(Iterable<CompletableFuture<JbStoreDetailApiResponseDTO.StoreDetail>> futures) {
+        List<CompletableFuture<JbStoreDetailApiResponseDTO.StoreDetail>> list = new ArrayList<>();
+        futures.forEach(list::add);
+        try {
+            CompletableFuture.allOf(list.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CustomException customException) {
+                throw customException;
+            }
+            log.error("매장 상세 정보 동시 조회 실패", cause);
+            throw new ExternalApiException("맛집 정보 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 캐시 전체 삭제 (매장 동기화로 store 테이블이 바뀐 경우)
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private void cacheIfCurrent(String sno, ResolvedStore resolved, long loadedAt) {
+        if (generation.get() == loadedAt) {
+            cache.put(sno, resolved);
+        }
+    }
+
+    private Store findStore(String sno) {
+        dbCounter.increment();
+        return storeRepository.findBySno(sno).orElse(null);
+    }
+
+    /**
+     * 상세 정보 채우기
+     *  - store 테이블에 상세 정보까지 있으면 그대로 사용
+     *  - 없으면 공공 상세 API + 좌표, 목록 동기화로만 들어온 매장이면 상세 정보를 채워서 저장
+     */
+    private ResolvedStore loadDetail(String sno, Store existing, List<String> coordinatesHint) {
+        if (existing != null && existing.isDetailLoaded()) {
+            log.info("Store 테이블에서 매장 정보 조회 완료 - sno: {}, name: {}", sno, existing.getStoreName());
+            return ResolvedStore.of(existing);
+        }
+
+        // 1. JB API 호출
+        log.info("Store 상세 정보가 없어서 공공 API 호출 - sno: {}", sno);
+        upstreamCounter.increment();
+        JbStoreDetailApiResponseDTO.StoreDetail detail = jbStoreApiClient.jbStoreDetail(sno);
+
+        if (detail == null) {
+            if (existing != null) {
+                return ResolvedStore.of(existing);
+            }
+            log.warn("공공 API에서 매장 정보를 찾을 수 없음 - sno: {}", sno);
+            notFoundCounter.increment();
+            return ResolvedStore.NOT_FOUND;
+        }
+
+        // 2. 경도, 위도 받아오기 (요청 좌표 → 공공 API 좌표 → 캐시 → 카카오)
+        List<String> coordinates = coordinatesHint != null
+                ? coordinatesHint
+                : coordinateResolver.resolve(detail.getFLatitude(), detail.getFLongitude(), detail.getAddress());
+
+        // 3. 목록 동기화로만 들어온 매장이면 상세 정보 채워서 저장
+        if (existing != null) {
+            existing.applyStoreDetail(detail, coordinates);
+            Store saved = storeTransaction.execute(status -> storeRepository.save(existing));
+            storeIndex.upsert(saved);
+            log.info("Store 상세 정보 보완 완료 - sno: {}", sno);
+            return ResolvedStore.of(saved);
+        }
+
+        return new ResolvedStore(null, detail, coordinates);
+    }
+
+    /**
+     * 상세 API 결과를 store 테이블에 저장 (다른 서버가 먼저 저장했으면 그 매장 사용)
+     */
+    private ResolvedStore save(ResolvedStore resolved) {
+        Store saved = insertOrGetAll(List.of(Store.fromStoreDetail(resolved.detail(), resolved.coordinates()))).get(0);
+        storeIndex.upsert(saved);
+        log.info("새로운 Store 저장 완료 - sno: {}, name: {}", saved.getSno(), saved.getStoreName());
+        return ResolvedStore.of(saved);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("store.resolver.requests")
+                .description("매장 정보 조회 경로 (hit / db / upstream / not_found)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매장 조회 결과
+     * @param store store 테이블 매장 (저장되지 않은 매장이면 null)
+     * @param detail 공공 상세 API 결과 (store 가 있으면 null)
+     * @param coordinates detail 의 좌표 [위도, 경도]
+     */
+    public record ResolvedStore(Store store, JbStoreDetailApiResponseDTO.StoreDetail detail, List<String> coordinates) {
+
+        static final ResolvedStore NOT_FOUND = new ResolvedStore(null, null, null);
+
+        static ResolvedStore of(Store store) {
+            return new ResolvedStore(store, null, null);
+        }
+
+        public boolean isNotFound() {
+            return store == null && detail == null;
+        }
+
+        public boolean hasDetail() {
+            return store != null ? store.isDetailLoaded() : detail != null;
+        }
+
+        private ResolvedStore orElseThrow(String sno) {
+            if (isNotFound()) {
+                throw new EntityNotFoundException("매장 정보를 찾을 수 없습니다. SNO: " + sno);
+            }
+            return this;
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.jbeatda.domain.stores.service;
 
-import com.jbeatda.DTO.external.JbStoreDetailApiResponseDTO;
 import com.jbeatda.DTO.external.JbStoreListApiResponseDTO;
 import com.jbeatda.DTO.requestDTO.SearchStoreRequestDTO;
 import com.jbeatda.DTO.responseDTO.BookmarkListResponseDTO;
 import com.jbeatda.DTO.responseDTO.JbListResponseDTO;
+import com.jbeatda.DTO.responseDTO.NearbyStoreResponseDTO;
+import com.jbeatda.DTO.responseDTO.StoreAutocompleteResponseDTO;
 import com.jbeatda.DTO.responseDTO.StoreDetailResponseDTO;
 import com.jbeatda.DTO.responseDTO.StoreResponseDTO;
 import com.jbeatda.Mapper.StoreDetailMapper;
 import com.jbeatda.Mapper.StoreMapper;
 import com.jbeatda.domain.stores.client.JbStoreApiClient;
-import com.jbeatda.domain.stores.client.KakaoClient;
 import com.jbeatda.domain.stores.entity.Bookmark;
 import com.jbeatda.domain.stores.entity.Store;
+import com.jbeatda.domain.stores.index.StoreIndex;
+import com.jbeatda.domain.stores.index.StoreRecord;
+import com.jbeatda.domain.stores.index.StoreSpatialIndex;
 import com.jbeatda.domain.stores.repository.BookmarkRepository;
 import com.jbeatda.domain.stores.repository.StoreRepository;
 import com.jbeatda.domain.users.entity.User;
@@ -22,6 +25,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -35,12 +39,20 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final StoreMapper storeMapper;
-    private final KakaoClient kakaoClient;
+    private final StoreResolver storeResolver;
+    private final StoreSyncService storeSyncService;
+    private final StoreIndex storeIndex;
     private final StoreDetailMapper storeDetailMapper;
     private final JbStoreApiClient jbStoreApiClient;
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
 
+    @Value("${store-index.nearby.max-radius-meters:20000}")
+    private double nearbyMaxRadiusMeters;
+
+    @Value("${store-index.nearby.max-limit:100}")
+    private int nearbyMaxLimit;
+
     // 전체 가게 목록 조회
     public ApiResult getAllStores() {
         try {
@@ -59,56 +71,96 @@ public class StoreService {
     // 특정 지역의 식당 목록 조회
     public ApiResult getStoresByArea(String area) {
 
-        // 1. 외부 API 호출
+        // 1. 로컬 미러가 최신이면 메모리 인덱스 → DB 순으로 조회
+        if (storeSyncService.isFresh(area)) {
+            List<StoreRecord> records = storeIndex.findByArea(area);
+            if (records != null) {
+                return storeMapper.toJbAreaListResponseFromRecords(area, records);
+            }
+            List<Store> stores = storeRepository.findByAreaCodeOrderByIdAsc(area);
+            return storeMapper.toJbAreaListResponseFromStores(area, stores);
+        }
+
+        // 2. 미러가 없거나 오래됐으면 외부 API 호출
         List<JbStoreListApiResponseDTO.StoreItem> apiItems = jbStoreApiClient.jbStoreAreaList(area);
-        // 2. DTO 변환
+        // 3. DTO 변환
         JbListResponseDTO response = storeMapper.toJbAreaListResponse(area, apiItems);
-        // 3. 반환
+        // 4. 반환
         return response ;
     }
 
     // 식당검색 (지역번호 + 키워드)
     public ApiResult searchStore(SearchStoreRequestDTO searchStoreRequestDTO){
 
-        // 1. 외부 API 호출
+        String area = searchStoreRequestDTO.getArea() != null && !searchStoreRequestDTO.getArea().trim().isEmpty()
+                ? searchStoreRequestDTO.getArea().trim() : null;
+        String keyword = searchStoreRequestDTO.getKeyword() != null ? searchStoreRequestDTO.getKeyword().trim() : "";
+
+        // 1. 로컬 미러가 최신이면 메모리 검색 인덱스 → DB 순으로 검색
+        boolean mirrorFresh = area != null ? storeSyncService.isFresh(area) : storeSyncService.isFresh();
+        if (mirrorFresh) {
+            List<StoreRecord> records = storeIndex.search(area, keyword);
+            if (records != null) {
+                return storeMapper.toJbAreaListResponseFromRecords(searchStoreRequestDTO.getArea(), records);
+            }
+            List<Store> stores = storeRepository.searchSynced(area, keyword);
+            return storeMapper.toJbAreaListResponseFromStores(searchStoreRequestDTO.getArea(), stores);
+        }
+
+        // 2. 미러가 없거나 오래됐으면 외부 API 호출
         List<JbStoreListApiResponseDTO.StoreItem> apiItems = jbStoreApiClient.jbStoreSearchList(searchStoreRequestDTO);
-        // 2. DTO 변환
+        // 3. DTO 변환
         JbListResponseDTO response = storeMapper.toJbAreaListResponse(searchStoreRequestDTO.getArea(), apiItems);
-        // 3. 반환
+        // 4. 반환
         return response ;
 
     }
 
+    // 식당명 자동완성 (메모리 인덱스만 사용, 외부 API 호출 없음)
+    public ApiResult autocompleteStore(String keyword, String area, int limit) {
+        String areaCode = area != null && !area.trim().isEmpty() ? area.trim() : null;
+        int size = Math.max(1, Math.min(limit, 30));
+
+        List<StoreRecord> records = storeIndex.autocomplete(areaCode, keyword, size);
+        return StoreAutocompleteResponseDTO.fromRecords(records);
+    }
+
+    // 주변 식당 조회 (메모리 위치 인덱스, 가까운 순)
+    public ApiResult getNearbyStores(double lat, double lng, double radius, int limit) {
+        // NaN / 무한대는 비교식을 통과하거나 Math.min 결과가 NaN 이 되므로 먼저 거름
+        if (!Double.isFinite(lat) || !Double.isFinite(lng) || !Double.isFinite(radius)
+                || Math.abs(lat) > 90 || Math.abs(lng) > 180 || radius <= 0 || limit <= 0) {
+            return ApiResponseDTO.fail(ApiResponseCode.BAD_REQUEST);
+        }
+
+        List<StoreSpatialIndex.Nearby> nearby = storeIndex.nearby(
+                lat, lng, Math.min(radius, nearbyMaxRadiusMeters), Math.min(limit, nearbyMaxLimit));
+        return NearbyStoreResponseDTO.fromNearby(nearby);
+    }
+
     // 식당 정보 상세 조회
     public ApiResult getStoresDetail(int storeNo) {
         String sno = String.valueOf(storeNo);
 
-        // 1. store 테이블에서 sno로 검색
-        Optional<Store> existingStore = storeRepository.findBySno(sno);
-
-        if(existingStore.isPresent()){
+        // 0. 메모리 인덱스에 상세 정보까지 있으면 바로 반환
+        StoreRecord record = storeIndex.findBySno(sno);
+        if (record != null && record.detailLoaded()) {
+            return record.toStoreDetailResponseDTO();
+        }
 
-            //1-1. store 테이블에 데이터가 있으면 이것을 사용
-            Store store = existingStore.get();
-            log.info("Store 테이블에서 매장 정보 조회 완료 - sno: {}, name: {}", sno, store.getStoreName());
+        // 1. store 테이블 → 공공 상세 API 순으로 조회 (StoreResolver 캐시)
+        StoreResolver.ResolvedStore resolved = storeResolver.resolveDetail(sno);
 
+        if (resolved.store() != null) {
+            //1-1. store 테이블에 상세 정보까지 있으면 이것을 사용
+            Store store = resolved.store();
             StoreDetailResponseDTO response = store.toStoreDetailResponseDTO(store);
             return response;
-
-        } else{
-            // 1. JB API 호출
-            JbStoreDetailApiResponseDTO.StoreDetail apiItem = jbStoreApiClient.jbStoreDetail(sno);
-
-//            log.info("식당메뉴 {}", apiItem.getSmenu());
-
-            // 2. 경도, 위도 받아오기
-            List<String> point = kakaoClient.getPoint(apiItem.getAddress());
-
-            // 3. DTO 변환
-            return storeDetailMapper.toJbStoreDetailResponse(apiItem, point);
-
         }
 
+        // 2. 공공 API 결과 DTO 변환
+        return storeDetailMapper.toJbStoreDetailResponse(resolved.detail(), resolved.coordinates());
+
     }
 
     // 식당 즐겨찾기(북마크)
@@ -120,38 +172,8 @@ public class StoreService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("유저를 찾을 수 없습니다."));
 
-        //  store 테이블에서 sno로 검색
-        Optional<Store> existingStore = storeRepository.findBySno(sno);
-
-        Store targetStore;
-
-        if(existingStore.isPresent()){
-
-            //1-1. store 테이블에 데이터가 있으면 이것을 사용
-            targetStore = existingStore.get();
-            log.info("Store 테이블에서 매장 정보 조회 완료 - sno: {}, name: {}", sno, targetStore.getStoreName());
-
-
-        } else{
-            // 테이블에 데이터가 없으면 API호출로 받아옴
-            log.info("Store 정보가 없어서 공공 API 호출 - sno: {}", sno);
-
-            // 2-1.  API 호출
-            JbStoreDetailApiResponseDTO.StoreDetail storeDetail = jbStoreApiClient.jbStoreDetail(sno);
-
-            if (storeDetail == null) {
-                throw new EntityNotFoundException("매장 정보를 찾을 수 없습니다. SNO: " + sno);
-            }
-
-            // 2-2. 좌표 가져오기
-            List<String> coordinates = kakaoClient.getPoint(storeDetail.getAddress());
-
-            // 2-3. Store 저장
-            Store newStore = Store.fromStoreDetail(storeDetail, coordinates);
-            targetStore = storeRepository.save(newStore);
-            log.info("새로운 Store 저장 완료 - sno: {}, name: {}", sno, targetStore.getStoreName());
-
-        }
+        // 2. store 테이블에서 sno로 검색 (없으면 공공 API 호출 후 저장)
+        Store targetStore = storeResolver.resolveStore(sno, null);
 
         // 3. 중복 북마크 확인
         Optional<Bookmark> existingBookmark = bookmarkRepository.findByUserAndStore(user, targetStore);
@@ -0,0 +1,289 @@
+package com.jbeatda.domain.stores.service;
+
+import com.jbeatda.DTO.external.JbStoreListApiResponseDTO;
+import com.jbeatda.domain.stores.client.JbStoreApiClient;
+import com.jbeatda.domain.stores.entity.Store;
+import com.jbeatda.domain.stores.index.StoreIndex;
+import com.jbeatda.domain.stores.repository.StoreJdbcRepository;
+import com.jbeatda.domain.stores.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 전북향토음식점 목록 로컬 미러 동기화
+ *  - 주기적으로 전 지역 목록을 받아 store 테이블에 upsert (목록 데이터 해시가 바뀐 매장만 저장)
+ *  - 새 매장은 StoreJdbcRepository 로 저장 (상세 조회로 같은 매장이 먼저 저장돼도 지역 동기화가 실패하지 않음)
+ *  - 지역별 마지막 동기화 시각은 Redis에 저장 (서버 여러 대가 공유)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreSyncService {
+
+    // 전북향토음식점 지역코드 (StoreMapper.getAreaName 과 동일)
+    public static final List<String> AREA_CODES = List.of(
+            "01", "02", "03", "04", "05", "06", "07",
+            "08", "09", "10", "11", "12", "13", "14");
+
+    private static final String LOCK_KEY = "store_sync:lock";
+    private static final String AREA_SYNCED_AT_KEY = "store_sync:area_synced_at";
+
+    // 내 토큰일 때만 락 삭제 (확인과 삭제 사이에 락이 만료되고 다른 서버가 잡은 락을 지우지 않도록 1번에 처리)
+    private static final DefaultRedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final JbStoreApiClient jbStoreApiClient;
+    private final StoreRepository storeRepository;
+    private final StoreJdbcRepository storeJdbcRepository;
+    private final CoordinateResolver coordinateResolver;
+    private final StoreIndex storeIndex;
+    private final StoreResolver storeResolver;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 지역코드 → 마지막 동기화 시각 (Redis 값의 로컬 사본)
+    private final Map<String, Instant> areaSyncedAt = new ConcurrentHashMap<>();
+
+    @Value("${jb-store.sync.enabled:true}")
+    private boolean syncEnabled;
+
+    // 이 시간보다 오래된 미러는 사용하지 않고 외부 API 호출
+    @Value("${jb-store.sync.staleness:PT24H}")
+    private Duration staleness;
+
+    @Value("${jb-store.sync.lock-ttl:PT30M}")
+    private Duration lockTtl;
+
+    @Scheduled(initialDelayString = "${jb-store.sync.initial-delay:PT1M}",
+            fixedDelayString = "${jb-store.sync.interval:PT6H}")
+    public void scheduledSync() {
+        if (!syncEnabled) {
+            return;
+        }
+        syncAllAreas();
+    }
+
+    /**
+     * 전 지역 동기화 (다른 서버가 동기화 중이면 건너뜀)
+     */
+    public void syncAllAreas() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!acquireLock(lockToken)) {
+            log.info("다른 서버에서 매장 동기화 진행 중 - 건너뜀");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int changed = 0;
+        try {
+            for (String areaCode : AREA_CODES) {
+                try {
+                    changed += syncArea(areaCode);
+                } catch (Exception e) {
+                    // 실패한 지역은 기존 데이터 유지, 다음 주기에 재시도
+                    log.error("매장 동기화 실패 - area: {}", areaCode, e);
+                }
+            }
+        } finally {
+            releaseLock(lockToken);
+        }
+
+        // 동기화 결과를 메모리 인덱스 / 매장 조회 캐시에 반영
+        storeIndex.rebuild();
+        storeResolver.invalidateAll();
+
+        log.info("매장 동기화 완료 - 변경된 매장 수: {}, 소요 시간: {}ms",
+                changed, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 지역 1개 동기화
+     * @return 새로 저장되거나 변경된 매장 수
+     */
+    public int syncArea(String areaCode) {
+        List<JbStoreListApiResponseDTO.StoreItem> apiItems = jbStoreApiClient.jbStoreAreaListRevalidated(areaCode);
+        if (apiItems.isEmpty()) {
+            // 파싱 실패 등으로 빈 목록이 온 경우 기존 데이터를 최신으로 취급하지 않음
+            log.warn("매장 동기화 - 빈 목록 응답, 건너뜀 - area: {}", areaCode);
+            return 0;
+        }
+
+        // 1. 기존 매장 조회 (sno 기준)
+        List<String> snos = apiItems.stream()
+                .map(JbStoreListApiResponseDTO.StoreItem::getSno)
+                .collect(Collectors.toList());
+        Map<String, Store> existingStores = storeRepository.findBySnoIn(snos).stream()
+                .collect(Collectors.toMap(Store::getSno, Function.identity(), (first, second) -> first));
+
+        // 2. 해시가 바뀐 매장만 반영 (새 매장은 따로 모아서 저장)
+        List<Store> changedStores = new ArrayList<>();
+        Map<String, Store> newStores = new LinkedHashMap<>();
+        Map<String, JbStoreListApiResponseDTO.StoreItem> newItems = new LinkedHashMap<>();
+        for (JbStoreListApiResponseDTO.StoreItem item : apiItems) {
+            if (item.getSno() == null || item.getSno().isEmpty()) {
+                continue;
+            }
+
+            String contentHash = contentHash(areaCode, item);
+            Store store = existingStores.get(item.getSno());
+            if (store != null && contentHash.equals(store.getContentHash())) {
+                continue;
+            }
+
+            List<String> coordinates = resolveCoordinates(item);
+            if (store == null) {
+                store = Store.fromStoreItem(areaCode, item, contentHash, coordinates);
+                existingStores.put(item.getSno(), store);
+                newStores.put(item.getSno(), store);
+                newItems.put(item.getSno(), item);
+            } else {
+                store.applyStoreItem(areaCode, item, contentHash, coordinates);
+                changedStores.add(store);
+            }
+        }
+
+        int changed = newStores.size() + changedStores.size();
+
+        // 3. 새 매장 저장 (이미 있는 sno 는 건너뜀) → 그 사이 다른 요청이 먼저 저장한 매장은 목록 정보를 덮어씀
+        if (!newStores.isEmpty()) {
+            storeJdbcRepository.insertIfAbsent(new ArrayList<>(newStores.values()));
+            for (Store saved : storeRepository.findBySnoIn(new ArrayList<>(newStores.keySet()))) {
+                Store created = newStores.get(saved.getSno());
+                if (created == null || created.getContentHash().equals(saved.getContentHash())) {
+                    continue;
+                }
+                List<String> coordinates = created.getLat() != null && created.getLng() != null
+                        ? List.of(created.getLat(), created.getLng())
+                        : null;
+                saved.applyStoreItem(areaCode, newItems.get(saved.getSno()), created.getContentHash(), coordinates);
+                changedStores.add(saved);
+            }
+        }
+        storeRepository.saveAll(changedStores);
+        markSynced(areaCode, Instant.now());
+
+        log.info("매장 동기화 - area: {}, 전체: {}, 변경: {}", areaCode, apiItems.size(), changed);
+        return changed;
+    }
+
+    /**
+     * 지역 미러가 최신인지 (staleness 이내에 동기화됨)
+     */
+    public boolean isFresh(String areaCode) {
+        Instant syncedAt = areaSyncedAt.get(areaCode);
+        if (syncedAt == null || isStale(syncedAt)) {
+            // 다른 서버가 동기화했을 수 있으므로 Redis 확인
+            syncedAt = loadSyncedAt(areaCode);
+            if (syncedAt != null) {
+                areaSyncedAt.put(areaCode, syncedAt);
+            }
+        }
+        return syncedAt != null && !isStale(syncedAt);
+    }
+
+    /**
+     * 전 지역 미러가 최신인지
+     */
+    public boolean isFresh() {
+        return AREA_CODES.stream().allMatch(this::isFresh);
+    }
+
+    private boolean isStale(Instant syncedAt) {
+        return syncedAt.plus(staleness).isBefore(Instant.now());
+    }
+
+    private List<String> resolveCoordinates(JbStoreListApiResponseDTO.StoreItem item) {
+        try {
+            return coordinateResolver.resolve(item.getFLatitude(), item.getFLongitude(), item.getAddress());
+        } catch (Exception e) {
+            log.warn("매장 동기화 - 좌표 변환 실패 - sno: {}, 주소: {}", item.getSno(), item.getAddress());
+            return null;
+        }
+    }
+
+    /**
+     * 목록 API 데이터 해시 (SHA-256)
+     */
+    private String contentHash(String areaCode, JbStoreListApiResponseDTO.StoreItem item) {
+        String content = String.join("\u001F",
+                areaCode,
+                String.valueOf(item.getName()),
+                String.valueOf(item.getImg()),
+                String.valueOf(item.getArea()),
+                String.valueOf(item.getAddress()),
+                String.valueOf(item.getSmenu()),
+                String.valueOf(item.getTime()),
+                String.valueOf(item.getTel()),
+                String.valueOf(item.getFLatitude()),
+                String.valueOf(item.getFLongitude()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void markSynced(String areaCode, Instant syncedAt) {
+        areaSyncedAt.put(areaCode, syncedAt);
+        try {
+            redisTemplate.opsForHash().put(AREA_SYNCED_AT_KEY, areaCode, String.valueOf(syncedAt.toEpochMilli()));
+        } catch (Exception e) {
+            log.warn("매장 동기화 시각 저장 실패(Redis) - area: {}, {}", areaCode, e.getMessage());
+        }
+    }
+
+    private Instant loadSyncedAt(String areaCode) {
+        try {
+            Object value = redisTemplate.opsForHash().get(AREA_SYNCED_AT_KEY, areaCode);
+            return value != null ? Instant.ofEpochMilli(Long.parseLong(value.toString())) : null;
+        } catch (Exception e) {
+            log.warn("매장 동기화 시각 조회 실패(Redis) - area: {}, {}", areaCode, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean acquireLock(String lockToken) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, lockTtl));
+        } catch (Exception e) {
+            // Redis 장애 시에도 동기화는 진행
+            log.warn("매장 동기화 락 획득 실패(Redis) - 락 없이 진행, {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLock(String lockToken) {
+        try {
+            Long released = redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), lockToken);
+            if (released == null || released == 0) {
+                log.warn("매장 동기화 락이 이미 만료됨 - 다른 서버의 락은 유지");
+            }
+        } catch (Exception e) {
+            log.warn("매장 동기화 락 해제 실패(Redis), {}", e.getMessage());
+        }
+    }
+}
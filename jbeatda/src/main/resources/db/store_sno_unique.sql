@@ -0,0 +1,41 @@
+-- store.sno 유니크 인덱스 적용 전 1회 실행 (기존 DB에 중복 매장이 있으면 ddl-auto 가 인덱스를 만들지 못함)
+-- 같은 sno 중 가장 먼저 저장된 매장(store_id 최소)만 남기고, 북마크/코스 매장은 남는 매장으로 옮김
+
+-- 1. 남길 매장
+CREATE TEMPORARY TABLE store_keep AS
+SELECT sno, MIN(store_id) AS keep_id
+FROM store
+WHERE sno IS NOT NULL
+GROUP BY sno
+HAVING COUNT(*) > 1;
+
+-- 2. 코스 매장 → 남길 매장
+UPDATE course_store cs
+    JOIN store s ON cs.store_id = s.store_id
+    JOIN store_keep k ON s.sno = k.sno
+SET cs.store_id = k.keep_id
+WHERE s.store_id <> k.keep_id;
+
+-- 3. 북마크 → 남길 매장 (이미 같은 매장을 북마크했으면 옮기지 않고 4에서 삭제)
+UPDATE IGNORE bookmark b
+    JOIN store s ON b.store_id = s.store_id
+    JOIN store_keep k ON s.sno = k.sno
+SET b.store_id = k.keep_id
+WHERE s.store_id <> k.keep_id;
+
+-- 4. 중복 매장 / 남은 북마크 삭제
+DELETE b FROM bookmark b
+    JOIN store s ON b.store_id = s.store_id
+    JOIN store_keep k ON s.sno = k.sno
+WHERE s.store_id <> k.keep_id;
+
+DELETE s FROM store s
+    JOIN store_keep k ON s.sno = k.sno
+WHERE s.store_id <> k.keep_id;
+
+DROP TEMPORARY TABLE store_keep;
+
+-- 5. 인덱스 (ddl-auto: update 로도 생성됨)
+CREATE UNIQUE INDEX uk_store_sno ON store (sno);
+CREATE INDEX idx_store_area_code ON store (area_code, store_id);
+CREATE INDEX idx_bookmark_user_created ON bookmark (user_id, created_at);
@@ -0,0 +1,158 @@
+package com.jbeatda.domain.courses.service;
+
+import com.jbeatda.domain.stores.index.StoreSpatialIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteOptimizerTest {
+
+    private static final String CAR = "자동차";
+
+    @Test
+    void 정확한_계산은_모든_순서를_확인한_최단_경로와_같음() {
+        Random random = new Random(7);
+        RouteOptimizer exact = optimizer(10);
+
+        for (int round = 0; round < 30; round++) {
+            int size = 2 + random.nextInt(6);
+            double[][] points = randomPoints(random, size);
+
+            RouteOptimizer.Route route = exact.optimize(points[0], points[1], CAR);
+
+            assertPermutation(route.order(), size);
+            assertEquals(bruteForceLength(points[0], points[1]), length(route.order(), points), 1e-6);
+            assertEquals(length(route.order(), points), route.totalDistanceMeters(), 1e-6);
+        }
+    }
+
+    @Test
+    void 휴리스틱은_작은_입력에서_정확한_계산과_같은_거리() {
+        Random random = new Random(11);
+        RouteOptimizer exact = optimizer(10);
+        RouteOptimizer heuristic = optimizer(0);
+
+        for (int round = 0; round < 200; round++) {
+            int size = 3 + random.nextInt(4);
+            double[][] points = randomPoints(random, size);
+
+            RouteOptimizer.Route exactRoute = exact.optimize(points[0], points[1], CAR);
+            RouteOptimizer.Route heuristicRoute = heuristic.optimize(points[0], points[1], CAR);
+
+            assertPermutation(heuristicRoute.order(), size);
+            assertEquals(exactRoute.totalDistanceMeters(), heuristicRoute.totalDistanceMeters(), 1e-6,
+                    "points: " + Arrays.deepToString(points));
+        }
+    }
+
+    @Test
+    void 휴리스틱은_정확한_계산보다_짧지_않고_크게_벗어나지_않음() {
+        Random random = new Random(13);
+        RouteOptimizer exact = optimizer(10);
+        RouteOptimizer heuristic = optimizer(0);
+
+        for (int round = 0; round < 100; round++) {
+            int size = 7 + random.nextInt(4);
+            double[][] points = randomPoints(random, size);
+
+            double exactLength = exact.optimize(points[0], points[1], CAR).totalDistanceMeters();
+            RouteOptimizer.Route heuristicRoute = heuristic.optimize(points[0], points[1], CAR);
+
+            assertPermutation(heuristicRoute.order(), size);
+            assertTrue(heuristicRoute.totalDistanceMeters() >= exactLength - 1e-6);
+            assertTrue(heuristicRoute.totalDistanceMeters() <= exactLength * 1.1,
+                    "points: " + Arrays.deepToString(points));
+        }
+    }
+
+    @Test
+    void 일직선_위의_매장은_끝에서_끝으로_방문() {
+        double[] lats = {35.80, 35.83, 35.81, 35.84, 35.82};
+        double[] lngs = {127.10, 127.10, 127.10, 127.10, 127.10};
+
+        for (RouteOptimizer optimizer : new RouteOptimizer[]{optimizer(10), optimizer(0)}) {
+            int[] order = optimizer.optimize(lats, lngs, CAR).order();
+            int[] forward = {0, 2, 4, 1, 3};
+            int[] backward = {3, 1, 4, 2, 0};
+            assertTrue(Arrays.equals(order, forward) || Arrays.equals(order, backward), Arrays.toString(order));
+        }
+    }
+
+    @Test
+    void 이동수단별_우회계수와_속도로_시간_계산() {
+        double[] lats = {35.80, 35.81};
+        double[] lngs = {127.10, 127.10};
+        double straight = StoreSpatialIndex.haversine(35.80, 127.10, 35.81, 127.10);
+
+        RouteOptimizer.Route walk = optimizer(10).optimize(lats, lngs, "도보");
+
+        assertEquals(straight * 1.2, walk.totalDistanceMeters(), 1e-6);
+        assertEquals(Math.round(straight * 1.2 / 1000d / 4.0 * 60d), walk.totalMinutes());
+        assertArrayEquals(new int[0], optimizer(10).optimize(new double[0], new double[0], CAR).order());
+    }
+
+    private static RouteOptimizer optimizer(int exactMaxStores) {
+        RouteOptimizer optimizer = new RouteOptimizer();
+        ReflectionTestUtils.setField(optimizer, "exactMaxStores", exactMaxStores);
+        return optimizer;
+    }
+
+    private static double[][] randomPoints(Random random, int size) {
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = 35.7 + random.nextDouble() * 0.2;
+            lngs[i] = 127.0 + random.nextDouble() * 0.2;
+        }
+        return new double[][]{lats, lngs};
+    }
+
+    private static void assertPermutation(int[] order, int size) {
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+        int[] expected = new int[size];
+        Arrays.setAll(expected, i -> i);
+        assertArrayEquals(expected, sorted);
+    }
+
+    // 자동차 우회 계수(1.3) 적용한 경로 길이
+    private static double length(int[] order, double[][] points) {
+        double total = 0;
+        for (int i = 1; i < order.length; i++) {
+            total += StoreSpatialIndex.haversine(points[0][order[i - 1]], points[1][order[i - 1]],
+                    points[0][order[i]], points[1][order[i]]) * 1.3;
+        }
+        return total;
+    }
+
+    private static double bruteForceLength(double[] lats, double[] lngs) {
+        int[] order = new int[lats.length];
+        Arrays.setAll(order, i -> i);
+        return permute(order, 0, new double[][]{lats, lngs});
+    }
+
+    private static double permute(int[] order, int from, double[][] points) {
+        if (from == order.length) {
+            return length(order, points);
+        }
+        double best = Double.MAX_VALUE;
+        for (int i = from; i < order.length; i++) {
+            swap(order, from, i);
+            best = Math.min(best, permute(order, from + 1, points));
+            swap(order, from, i);
+        }
+        return best;
+    }
+
+    private static void swap(int[] order, int i, int j) {
+        int temp = order[i];
+        order[i] = order[j];
+        order[j] = temp;
+    }
+}
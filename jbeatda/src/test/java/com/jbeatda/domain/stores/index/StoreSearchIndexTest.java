@@ -0,0 +1,72 @@
+package com.jbeatda.domain.stores.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StoreSearchIndexTest {
+
+    @Test
+    void 완성된_글자는_음절_경계를_넘어서_매칭하지_않음() {
+        StoreSearchIndex index = StoreSearchIndex.build(List.of(
+                store("1", "가마솥국밥", "국밥"),
+                store("2", "감나무집", "백반"),
+                store("3", "구기자찻집", "구기자차")));
+
+        assertEquals(List.of("2"), snos(index.search(null, "감", 10)));
+        assertEquals(List.of("1"), snos(index.search(null, "국", 10)));
+        assertEquals(List.of("1"), snos(index.search(null, "솥국", 10)));
+    }
+
+    @Test
+    void 입력_중인_마지막_글자는_자모_앞부분으로_매칭() {
+        StoreSearchIndex index = StoreSearchIndex.build(List.of(
+                store("1", "비빔밥집", "비빔밥"),
+                store("2", "비지찌개", "찌개")));
+
+        assertEquals(List.of("1"), snos(index.autocomplete(null, "비ㅂ", 10)));
+        assertEquals(List.of("1"), snos(index.autocomplete(null, "비비", 10)));
+        assertEquals(List.of("1", "2"), snos(index.autocomplete(null, "ㅂ", 10)));
+        assertTrue(index.autocomplete(null, "빔ㅂㅏ", 10).isEmpty());
+    }
+
+    @Test
+    void 매장명_시작_단어시작_부분일치_메뉴_순으로_정렬() {
+        StoreSearchIndex index = StoreSearchIndex.build(List.of(
+                store("1", "고궁", "비빔밥"),
+                store("2", "전주비빔밥", "한식"),
+                store("3", "한옥 비빔밥", "한식"),
+                store("4", "비빔밥천국", "한식"),
+                store("5", "비빔밥", "한식")));
+
+        // 정확히 같은 매장명 > 매장명 시작 > 단어 시작 > 부분 일치 > 메뉴
+        assertEquals(List.of("5", "4", "3", "2", "1"), snos(index.search(null, "비빔밥", 10)));
+    }
+
+    @Test
+    void 여러_단어는_모두_포함해야_하고_지역코드로_거름() {
+        StoreSearchIndex index = StoreSearchIndex.build(List.of(
+                store("1", "한옥 비빔밥", "비빔밥", "01"),
+                store("2", "한옥 국밥", "국밥", "01"),
+                store("3", "한옥 비빔밥", "비빔밥", "02")));
+
+        assertEquals(List.of("1", "3"), snos(index.search(null, "한옥 비빔", 10)));
+        assertEquals(List.of("3"), snos(index.search("02", "한옥 비빔", 10)));
+    }
+
+    private static StoreRecord store(String sno, String name, String menu) {
+        return store(sno, name, menu, "01");
+    }
+
+    private static StoreRecord store(String sno, String name, String menu, String areaCode) {
+        return new StoreRecord(sno, name, null, "전주시", areaCode, "전북 전주시 완산구", menu,
+                null, null, null, null, 0, null, null, Double.NaN, Double.NaN, null, false);
+    }
+
+    private static List<String> snos(List<StoreRecord> records) {
+        return records.stream().map(StoreRecord::sno).toList();
+    }
+}
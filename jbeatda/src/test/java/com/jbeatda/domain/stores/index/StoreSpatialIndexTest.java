@@ -0,0 +1,93 @@
+package com.jbeatda.domain.stores.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StoreSpatialIndexTest {
+
+    @Test
+    void 반경과_같은_거리의_매장은_포함() {
+        StoreRecord center = store("1", 35.8200, 127.1400);
+        StoreRecord edge = store("2", 35.8240, 127.1450);
+        StoreSpatialIndex index = StoreSpatialIndex.build(List.of(center, edge));
+
+        double distance = StoreSpatialIndex.haversine(35.8200, 127.1400, 35.8240, 127.1450);
+
+        assertEquals(List.of("1", "2"), snos(index.nearby(35.8200, 127.1400, distance, 10)));
+        assertEquals(List.of("1"), snos(index.nearby(35.8200, 127.1400, distance - 0.01, 10)));
+    }
+
+    @Test
+    void 격자_경계_건너편_매장도_조회() {
+        // 격자 시작점 = 가장 작은 좌표, 격자 크기 0.01도 → 35.81 / 127.11 이 경계
+        StoreSpatialIndex index = StoreSpatialIndex.build(List.of(
+                store("1", 35.8000, 127.1000),
+                store("2", 35.8101, 127.1000),
+                store("3", 35.8099, 127.1098),
+                store("4", 35.8099, 127.1101)));
+
+        // 위도 경계 바로 아래에서 조회 → 위쪽 격자 매장(2) 포함, 같은 격자지만 먼 매장(1)은 제외
+        List<StoreSpatialIndex.Nearby> nearby = index.nearby(35.8099, 127.1001, 50, 10);
+        assertEquals(List.of("2"), snos(nearby));
+
+        // 네 격자가 만나는 꼭짓점에서 조회 → 양쪽 격자 매장을 가까운 순으로
+        List<StoreSpatialIndex.Nearby> corner = index.nearby(35.8100, 127.1100, 30, 10);
+        assertEquals(List.of("4", "3"), snos(corner));
+    }
+
+    @Test
+    void 가까운_순으로_limit_개만_반환하고_전체_탐색과_같음() {
+        Random random = new Random(42);
+        List<StoreRecord> records = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            records.add(store(String.valueOf(i), 35.7 + random.nextDouble() * 0.3, 126.9 + random.nextDouble() * 0.4));
+        }
+        StoreSpatialIndex index = StoreSpatialIndex.build(records);
+
+        for (int query = 0; query < 50; query++) {
+            double lat = 35.7 + random.nextDouble() * 0.3;
+            double lng = 126.9 + random.nextDouble() * 0.4;
+            double radius = 200 + random.nextDouble() * 3000;
+
+            List<StoreSpatialIndex.Nearby> expected = records.stream()
+                    .map(record -> new StoreSpatialIndex.Nearby(record,
+                            StoreSpatialIndex.haversine(lat, lng, record.latitude(), record.longitude())))
+                    .filter(nearby -> nearby.distanceMeters() <= radius)
+                    .sorted(Comparator.comparingDouble(StoreSpatialIndex.Nearby::distanceMeters))
+                    .limit(20)
+                    .toList();
+            List<StoreSpatialIndex.Nearby> actual = index.nearby(lat, lng, radius, 20);
+
+            assertEquals(snos(expected), snos(actual));
+            for (int i = 1; i < actual.size(); i++) {
+                assertTrue(actual.get(i - 1).distanceMeters() <= actual.get(i).distanceMeters());
+            }
+        }
+    }
+
+    @Test
+    void 좌표가_없는_매장은_제외() {
+        StoreSpatialIndex index = StoreSpatialIndex.build(List.of(
+                store("1", 35.8200, 127.1400),
+                store("2", Double.NaN, Double.NaN)));
+
+        assertEquals(List.of("1"), snos(index.nearby(35.8200, 127.1400, 100_000, 10)));
+        assertTrue(StoreSpatialIndex.EMPTY.nearby(35.8200, 127.1400, 1000, 10).isEmpty());
+    }
+
+    private static StoreRecord store(String sno, double latitude, double longitude) {
+        return new StoreRecord(sno, "매장" + sno, null, "전주시", "01", null, null, null, null, null, null, 0,
+                String.valueOf(latitude), String.valueOf(longitude), latitude, longitude, null, false);
+    }
+
+    private static List<String> snos(List<StoreSpatialIndex.Nearby> nearby) {
+        return nearby.stream().map(result -> result.store().sno()).toList();
+    }
+}